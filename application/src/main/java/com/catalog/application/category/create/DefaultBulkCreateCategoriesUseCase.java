@@ -0,0 +1,58 @@
+package com.catalog.application.category.create;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultBulkCreateCategoriesUseCase extends BulkCreateCategoriesUseCase {
+    public static final int MAX_ITEMS = 1_000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkCreateCategoriesUseCase(final CategoryGateway aCategoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(aCategoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, CreateCategoryOutput>> execute(final List<CreateCategoryCommand> someCommands) {
+        if (someCommands.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("'items' must not have more than %d items".formatted(MAX_ITEMS)));
+        }
+
+        final var results = new ArrayList<Either<Notification, CreateCategoryOutput>>(someCommands.size());
+        final var positions = new ArrayList<Integer>();
+        final var categories = new ArrayList<Category>();
+
+        for (final var aCommand : someCommands) {
+            final var notification = Notification.create();
+            final var aCategory = Category.newCategory(aCommand.name(), aCommand.description(), aCommand.isActive());
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+            } else {
+                positions.add(results.size());
+                categories.add(aCategory);
+                results.add(Right(CreateCategoryOutput.from(aCategory)));
+            }
+        }
+
+        if (!categories.isEmpty()) {
+            Try(() -> this.categoryGateway.createAll(categories))
+                    .onFailure(ex -> positions.forEach(i -> results.set(i, Left(Notification.create(ex)))));
+        }
+
+        return results;
+    }
+}
@@ -0,0 +1,8 @@
+package com.catalog.application.category.delete;
+
+import com.catalog.application.UnitUseCase;
+
+import java.util.List;
+
+public abstract class BulkDeleteCategoriesUseCase extends UnitUseCase<List<String>> {
+}
@@ -0,0 +1,40 @@
+package com.catalog.application.category.delete;
+
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.validation.Error;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+public class DefaultBulkDeleteCategoriesUseCase extends BulkDeleteCategoriesUseCase {
+    public static final int MAX_ITEMS = 1_000;
+
+    private final CategoryGateway categoryGateway;
+    private final GenreCategoryCascade genreCascade;
+
+    public DefaultBulkDeleteCategoriesUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreCascade = new GenreCategoryCascade(genreGateway);
+    }
+
+    @Override
+    public void execute(final List<String> someIds) {
+        if (someIds.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("'ids' must not have more than %d items".formatted(MAX_ITEMS)));
+        }
+
+        final var ids = someIds.stream()
+                .filter(Objects::nonNull)
+                .map(CategoryID::from)
+                .collect(Collectors.toSet());
+
+        if (!ids.isEmpty()) {
+            this.categoryGateway.deleteAllByIds(ids);
+            this.genreCascade.removeFromGenres(ids);
+        }
+    }
+}
@@ -2,18 +2,25 @@ package com.catalog.application.category.delete;
 
 import com.catalog.domain.category.CategoryGateway;
 import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.GenreGateway;
 
 import java.util.Objects;
 
 public class DefaultDeleteCategoryUseCase extends DeleteCategoryUseCase {
     private final CategoryGateway categoryGateway;
+    private final GenreCategoryCascade genreCascade;
 
-    public DefaultDeleteCategoryUseCase(final CategoryGateway categoryGateway) {
+    public DefaultDeleteCategoryUseCase(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreCascade = new GenreCategoryCascade(genreGateway);
     }
 
     @Override
     public void execute(final String anIn) {
-        this.categoryGateway.deleteById(CategoryID.from(anIn));
+        final var anId = CategoryID.from(anIn);
+
+        if (this.categoryGateway.deleteById(anId)) {
+            this.genreCascade.removeFromGenres(anId);
+        }
     }
 }
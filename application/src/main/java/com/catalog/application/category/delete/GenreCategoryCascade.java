@@ -0,0 +1,43 @@
+package com.catalog.application.category.delete;
+
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.GenreGateway;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+final class GenreCategoryCascade {
+    static final int CHUNK_SIZE = 500;
+
+    private final GenreGateway genreGateway;
+
+    GenreCategoryCascade(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    // one short write per chunk, so a popular category does not lock all of its genres at once
+    void removeFromGenres(final CategoryID aCategoryId) {
+        final var genreIds = this.genreGateway.findIdsByCategory(aCategoryId);
+
+        for (int from = 0; from < genreIds.size(); from += CHUNK_SIZE) {
+            final var aChunk = genreIds.subList(from, Math.min(genreIds.size(), from + CHUNK_SIZE));
+            this.genreGateway.removeCategory(aCategoryId, aChunk);
+        }
+    }
+
+    // the genres of a whole chunk of categories are looked up at once, then detached a chunk of genres at a time
+    void removeFromGenres(final Collection<CategoryID> someCategoryIds) {
+        final var categoryIds = List.copyOf(someCategoryIds);
+
+        for (int from = 0; from < categoryIds.size(); from += CHUNK_SIZE) {
+            final var aChunk = categoryIds.subList(from, Math.min(categoryIds.size(), from + CHUNK_SIZE));
+            final var genreIds = this.genreGateway.findIdsByCategories(aChunk);
+
+            for (int genreFrom = 0; genreFrom < genreIds.size(); genreFrom += CHUNK_SIZE) {
+                final var aGenreChunk = genreIds.subList(genreFrom, Math.min(genreIds.size(), genreFrom + CHUNK_SIZE));
+                this.genreGateway.removeCategories(aChunk, aGenreChunk);
+            }
+        }
+    }
+}
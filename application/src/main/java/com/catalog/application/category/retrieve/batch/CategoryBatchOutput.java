@@ -0,0 +1,11 @@
+package com.catalog.application.category.retrieve.batch;
+
+import com.catalog.application.category.retrieve.get.CategoryOutput;
+
+import java.util.List;
+
+public record CategoryBatchOutput(
+        List<CategoryOutput> items,
+        List<String> missing
+) {
+}
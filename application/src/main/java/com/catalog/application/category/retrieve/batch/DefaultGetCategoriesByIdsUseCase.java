@@ -0,0 +1,65 @@
+package com.catalog.application.category.retrieve.batch;
+
+import com.catalog.application.category.retrieve.get.CategoryOutput;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultGetCategoriesByIdsUseCase extends GetCategoriesByIdsUseCase {
+    public static final int MAX_IDS = 500;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultGetCategoriesByIdsUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public CategoryBatchOutput execute(final List<String> someIds) {
+        final var ids = new LinkedHashSet<CategoryID>();
+
+        if (someIds != null) {
+            someIds.stream()
+                    .filter(Objects::nonNull)
+                    .map(String::trim)
+                    .filter(str -> !str.isEmpty())
+                    .map(CategoryID::from)
+                    .forEach(ids::add);
+        }
+
+        if (ids.size() > MAX_IDS) {
+            throw DomainException.with(new Error("'ids' must not have more than %d items".formatted(MAX_IDS)));
+        }
+
+        if (ids.isEmpty()) {
+            return new CategoryBatchOutput(List.of(), List.of());
+        }
+
+        final var categories = this.categoryGateway.findAllByIds(ids).stream()
+                .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        final var items = new ArrayList<CategoryOutput>(categories.size());
+        final var missing = new ArrayList<String>();
+
+        for (final var anId : ids) {
+            final var aCategory = categories.get(anId);
+
+            if (aCategory == null) {
+                missing.add(anId.getValue());
+            } else {
+                items.add(CategoryOutput.from(aCategory));
+            }
+        }
+
+        return new CategoryBatchOutput(items, missing);
+    }
+}
@@ -0,0 +1,8 @@
+package com.catalog.application.category.retrieve.batch;
+
+import com.catalog.application.UseCase;
+
+import java.util.List;
+
+public abstract class GetCategoriesByIdsUseCase extends UseCase<List<String>, CategoryBatchOutput> {
+}
@@ -0,0 +1,11 @@
+package com.catalog.application.category.update;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class BulkUpdateCategoriesUseCase
+        extends UseCase<List<UpdateCategoryCommand>, List<Either<Notification, UpdateCategoryOutput>>> {
+}
@@ -0,0 +1,113 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
+import static io.vavr.API.Try;
+
+public class DefaultBulkUpdateCategoriesUseCase extends BulkUpdateCategoriesUseCase {
+    public static final int MAX_ITEMS = 1_000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultBulkUpdateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public List<Either<Notification, UpdateCategoryOutput>> execute(final List<UpdateCategoryCommand> someCommands) {
+        if (someCommands.size() > MAX_ITEMS) {
+            throw DomainException.with(new Error("'items' must not have more than %d items".formatted(MAX_ITEMS)));
+        }
+
+        final var now = InstantUtils.now();
+        final var results = new ArrayList<Either<Notification, UpdateCategoryOutput>>(someCommands.size());
+        final var positions = new ArrayList<Integer>();
+        final var categories = new ArrayList<Category>();
+        final var expectedVersions = new HashMap<CategoryID, Long>();
+        final var seen = new HashSet<CategoryID>();
+
+        // like a single PUT, nothing is read first: each item carries its own expected version, if any
+        for (final var aCommand : someCommands) {
+            if (aCommand.id() == null) {
+                results.add(Left(Notification.create(new Error("'id' should not be null"))));
+                continue;
+            }
+
+            final var anId = CategoryID.from(aCommand.id());
+
+            if (!seen.add(anId)) {
+                results.add(Left(Notification.create(new Error("'id' %s is duplicated".formatted(anId.getValue())))));
+                continue;
+            }
+
+            final var isActive = !Boolean.FALSE.equals(aCommand.isActive());
+            final var aCategory = Category.with(
+                    anId,
+                    aCommand.name(),
+                    aCommand.description(),
+                    isActive,
+                    now,
+                    now,
+                    isActive ? null : now
+            );
+
+            final var notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasError()) {
+                results.add(Left(notification));
+                continue;
+            }
+
+            final var anExpectedVersion = aCommand.expectedVersion();
+
+            if (anExpectedVersion != null) {
+                expectedVersions.put(anId, anExpectedVersion);
+            }
+
+            positions.add(results.size());
+            categories.add(aCategory);
+            results.add(Right(UpdateCategoryOutput.from(anId, anExpectedVersion != null ? anExpectedVersion + 1 : null)));
+        }
+
+        if (!categories.isEmpty()) {
+            Try(() -> this.categoryGateway.updateAll(categories, expectedVersions))
+                    .onSuccess(failures -> markFailures(results, positions, categories, failures))
+                    .onFailure(ex -> positions.forEach(i -> results.set(i, Left(Notification.create(ex)))));
+        }
+
+        return results;
+    }
+
+    // a missing category or one at another version only fails its own item
+    private static void markFailures(
+            final List<Either<Notification, UpdateCategoryOutput>> results,
+            final List<Integer> positions,
+            final List<Category> categories,
+            final Map<CategoryID, DomainException> failures
+    ) {
+        for (int i = 0; i < categories.size(); i++) {
+            final var aFailure = failures.get(categories.get(i).getId());
+
+            if (aFailure != null) {
+                results.set(positions.get(i), Left(Notification.create(new Error(aFailure.getMessage()))));
+            }
+        }
+    }
+}
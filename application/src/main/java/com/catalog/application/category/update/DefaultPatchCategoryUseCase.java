@@ -0,0 +1,96 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+public class DefaultPatchCategoryUseCase extends PatchCategoryUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultPatchCategoryUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateCategoryOutput> execute(final PatchCategoryCommand aCommand) {
+        final var anId = CategoryID.from(aCommand.id());
+        final var isActive = aCommand.isActive();
+        final var now = InstantUtils.now();
+
+        // absent fields are left out of the UPDATE, so the current row is never read
+        final var someAttributes = EnumSet.noneOf(CategoryAttribute.class);
+
+        if (aCommand.name() != null) {
+            someAttributes.add(CategoryAttribute.NAME);
+        }
+
+        if (aCommand.description() != null) {
+            someAttributes.add(CategoryAttribute.DESCRIPTION);
+        }
+
+        if (isActive != null) {
+            someAttributes.add(CategoryAttribute.ACTIVE);
+        }
+
+        final var aCategory = Category.with(
+                anId,
+                aCommand.name(),
+                aCommand.description(),
+                isActive,
+                now,
+                now,
+                Boolean.FALSE.equals(isActive) ? now : null
+        );
+
+        final var notification = Notification.create();
+
+        if (someAttributes.contains(CategoryAttribute.NAME)) {
+            aCategory.validate(notification);
+        }
+
+        return notification.hasError()
+                ? Left(notification)
+                : patch(aCategory, someAttributes, aCommand.expectedVersion());
+    }
+
+    private Either<Notification, UpdateCategoryOutput> patch(
+            final Category aCategory,
+            final Set<CategoryAttribute> someAttributes,
+            final Long anExpectedVersion
+    ) {
+        return Try(() -> this.categoryGateway.patch(aCategory, someAttributes, anExpectedVersion))
+                .onFailure(PreconditionFailedException.class, ex -> {
+                    throw ex;
+                })
+                .toEither()
+                .mapLeft(Notification::create)
+                .map(patched -> {
+                    if (!patched) {
+                        throw NotFoundException.with(Category.class, aCategory.getId());
+                    }
+
+                    return UpdateCategoryOutput.from(aCategory.getId(), nextVersion(anExpectedVersion, someAttributes));
+                });
+    }
+
+    private static Long nextVersion(final Long anExpectedVersion, final Set<CategoryAttribute> someAttributes) {
+        if (anExpectedVersion == null) {
+            return null;
+        }
+
+        return someAttributes.isEmpty() ? anExpectedVersion : anExpectedVersion + 1;
+    }
+}
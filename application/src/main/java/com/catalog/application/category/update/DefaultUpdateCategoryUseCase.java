@@ -3,14 +3,13 @@ package com.catalog.application.category.update;
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryGateway;
 import com.catalog.domain.category.CategoryID;
-import com.catalog.domain.exceptions.DomainException;
 import com.catalog.domain.exceptions.NotFoundException;
-import com.catalog.domain.validation.Error;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import com.catalog.domain.utils.InstantUtils;
 import com.catalog.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
 import java.util.Objects;
-import java.util.function.Supplier;
 
 import static io.vavr.API.Left;
 import static io.vavr.API.Try;
@@ -25,28 +24,43 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
     @Override
     public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand aCommand) {
         final var anId = CategoryID.from(aCommand.id());
-        final var aName = aCommand.name();
-        final var aDescription = aCommand.description();
         final var isActive = aCommand.isActive();
+        final var now = InstantUtils.now();
 
-        final var aCategory = this.categoryGateway.findById(anId)
-                .orElseThrow(notFound(anId));
+        // a PUT replaces every column the UPDATE writes, createdAt is left untouched so nothing is read first
+        final var aCategory = Category.with(
+                anId,
+                aCommand.name(),
+                aCommand.description(),
+                isActive,
+                now,
+                now,
+                isActive ? null : now
+        );
 
         final var notification = Notification.create();
-        aCategory
-                .update(aName, aDescription, isActive)
-                .validate(notification);
+        aCategory.validate(notification);
 
-        return notification.hasError() ? Left(notification) : update(aCategory);
+        return notification.hasError() ? Left(notification) : update(aCategory, aCommand.expectedVersion());
     }
 
-    private Either<Notification, UpdateCategoryOutput> update(final Category aCategory) {
-        return Try(() -> this.categoryGateway.update(aCategory))
+    private Either<Notification, UpdateCategoryOutput> update(final Category aCategory, final Long anExpectedVersion) {
+        return Try(() -> this.categoryGateway.update(aCategory, anExpectedVersion))
+                .onFailure(PreconditionFailedException.class, ex -> {
+                    throw ex;
+                })
                 .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
-    }
+                .mapLeft(Notification::create)
+                .map(updated -> {
+                    if (!updated) {
+                        throw NotFoundException.with(Category.class, aCategory.getId());
+                    }
 
-    private Supplier<DomainException> notFound(final CategoryID anId) {
-        return () -> NotFoundException.with(Category.class, anId);
+                    // without If-Match the version the UPDATE produced is unknown, so no ETag is returned
+                    return UpdateCategoryOutput.from(
+                            aCategory.getId(),
+                            anExpectedVersion != null ? anExpectedVersion + 1 : null
+                    );
+                });
     }
 }
@@ -0,0 +1,28 @@
+package com.catalog.application.category.update;
+
+public record PatchCategoryCommand(
+        String id,
+        String name,
+        String description,
+        Boolean isActive,
+        Long expectedVersion
+) {
+    public static PatchCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive
+    ) {
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    public static PatchCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive,
+            final Long anExpectedVersion
+    ) {
+        return new PatchCategoryCommand(anId, aName, aDescription, isActive, anExpectedVersion);
+    }
+}
@@ -0,0 +1,8 @@
+package com.catalog.application.category.update;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class PatchCategoryUseCase extends UseCase<PatchCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
@@ -4,7 +4,8 @@ public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        Boolean isActive
+        Boolean isActive,
+        Long expectedVersion
 ) {
     public static UpdateCategoryCommand with(
             final String anId,
@@ -12,6 +13,16 @@ public record UpdateCategoryCommand(
             final String aDescription,
             final Boolean isActive
     ) {
-        return new UpdateCategoryCommand(anId, aName, aDescription, isActive);
+        return with(anId, aName, aDescription, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive,
+            final Long anExpectedVersion
+    ) {
+        return new UpdateCategoryCommand(anId, aName, aDescription, isActive, anExpectedVersion);
     }
 }
@@ -4,13 +4,18 @@ import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryID;
 
 public record UpdateCategoryOutput(
-        String id
+        String id,
+        Long version
 ) {
     public static UpdateCategoryOutput from(final String anId) {
-        return new UpdateCategoryOutput(anId);
+        return new UpdateCategoryOutput(anId, null);
+    }
+
+    public static UpdateCategoryOutput from(final CategoryID anId, final Long aVersion) {
+        return new UpdateCategoryOutput(anId.getValue(), aVersion);
     }
 
     public static UpdateCategoryOutput from(final Category aCategory) {
-        return new UpdateCategoryOutput(aCategory.getId().getValue());
+        return new UpdateCategoryOutput(aCategory.getId().getValue(), aCategory.getVersion());
     }
 }
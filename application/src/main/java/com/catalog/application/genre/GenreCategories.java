@@ -0,0 +1,48 @@
+package com.catalog.application.genre;
+
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.ValidationHandler;
+import com.catalog.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public final class GenreCategories {
+    private final CategoryGateway categoryGateway;
+
+    public GenreCategories(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    // a single lookup for every id, whatever the size of the list
+    public ValidationHandler validate(final List<CategoryID> someIds) {
+        final var notification = Notification.create();
+
+        if (someIds.isEmpty()) {
+            return notification;
+        }
+
+        final var missingIds = this.categoryGateway.existsByIds(someIds);
+
+        if (!missingIds.isEmpty()) {
+            final var missingIdsMessage = missingIds.stream()
+                    .map(CategoryID::getValue)
+                    .collect(Collectors.joining(", "));
+
+            notification.append(new Error("Some categories could not be found: %s".formatted(missingIdsMessage)));
+        }
+
+        return notification;
+    }
+
+    public static List<CategoryID> toCategoryIDs(final List<String> someIds) {
+        return Optional.ofNullable(someIds).orElse(List.of()).stream()
+                .map(CategoryID::from)
+                .distinct()
+                .toList();
+    }
+}
@@ -0,0 +1,13 @@
+package com.catalog.application.genre.create;
+
+import java.util.List;
+
+public record CreateGenreCommand(
+        String name,
+        Boolean isActive,
+        List<String> categories
+) {
+    public static CreateGenreCommand with(final String aName, final Boolean isActive, final List<String> categories) {
+        return new CreateGenreCommand(aName, isActive, categories);
+    }
+}
@@ -0,0 +1,9 @@
+package com.catalog.application.genre.create;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class CreateGenreUseCase extends UseCase<CreateGenreCommand, Either<Notification, CreateGenreOutput>> {
+
+}
@@ -0,0 +1,49 @@
+package com.catalog.application.genre.create;
+
+import com.catalog.application.genre.GenreCategories;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+public class DefaultCreateGenreUseCase extends CreateGenreUseCase {
+    private final GenreCategories genreCategories;
+    private final GenreGateway genreGateway;
+
+    public DefaultCreateGenreUseCase(final CategoryGateway aCategoryGateway, final GenreGateway aGenreGateway) {
+        this.genreCategories = new GenreCategories(aCategoryGateway);
+        this.genreGateway = Objects.requireNonNull(aGenreGateway);
+    }
+
+    @Override
+    public Either<Notification, CreateGenreOutput> execute(final CreateGenreCommand aCommand) {
+        final var aName = aCommand.name();
+        final var isActive = aCommand.isActive() == null || aCommand.isActive();
+        final var categories = GenreCategories.toCategoryIDs(aCommand.categories());
+
+        final var notification = Notification.create();
+        notification.append(this.genreCategories.validate(categories));
+
+        final var aGenre = notification.validate(() -> Genre.newGenre(aName, isActive));
+
+        if (notification.hasError()) {
+            return Left(notification);
+        }
+
+        aGenre.addCategories(categories);
+
+        return create(aGenre);
+    }
+
+    private Either<Notification, CreateGenreOutput> create(final Genre aGenre) {
+        return Try(() -> this.genreGateway.create(aGenre))
+                .toEither()
+                .bimap(Notification::create, CreateGenreOutput::from);
+    }
+}
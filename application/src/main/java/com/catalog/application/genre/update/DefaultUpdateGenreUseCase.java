@@ -0,0 +1,54 @@
+package com.catalog.application.genre.update;
+
+import com.catalog.application.genre.GenreCategories;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.genre.GenreID;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import static io.vavr.API.Left;
+import static io.vavr.API.Try;
+
+public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
+    private final GenreCategories genreCategories;
+    private final GenreGateway genreGateway;
+
+    public DefaultUpdateGenreUseCase(final CategoryGateway aCategoryGateway, final GenreGateway aGenreGateway) {
+        this.genreCategories = new GenreCategories(aCategoryGateway);
+        this.genreGateway = Objects.requireNonNull(aGenreGateway);
+    }
+
+    @Override
+    public Either<Notification, UpdateGenreOutput> execute(final UpdateGenreCommand aCommand) {
+        final var anId = GenreID.from(aCommand.id());
+        final var aName = aCommand.name();
+        final var isActive = aCommand.isActive() == null || aCommand.isActive();
+        final var categories = GenreCategories.toCategoryIDs(aCommand.categories());
+
+        final var aGenre = this.genreGateway.findById(anId)
+                .orElseThrow(notFound(anId));
+
+        final var notification = Notification.create();
+        notification.append(this.genreCategories.validate(categories));
+        notification.validate(() -> aGenre.update(aName, isActive, categories));
+
+        return notification.hasError() ? Left(notification) : update(aGenre);
+    }
+
+    private Either<Notification, UpdateGenreOutput> update(final Genre aGenre) {
+        return Try(() -> this.genreGateway.update(aGenre))
+                .toEither()
+                .bimap(Notification::create, UpdateGenreOutput::from);
+    }
+
+    private Supplier<DomainException> notFound(final GenreID anId) {
+        return () -> NotFoundException.with(Genre.class, anId);
+    }
+}
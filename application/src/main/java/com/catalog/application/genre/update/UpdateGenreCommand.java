@@ -0,0 +1,19 @@
+package com.catalog.application.genre.update;
+
+import java.util.List;
+
+public record UpdateGenreCommand(
+        String id,
+        String name,
+        Boolean isActive,
+        List<String> categories
+) {
+    public static UpdateGenreCommand with(
+            final String anId,
+            final String aName,
+            final Boolean isActive,
+            final List<String> categories
+    ) {
+        return new UpdateGenreCommand(anId, aName, isActive, categories);
+    }
+}
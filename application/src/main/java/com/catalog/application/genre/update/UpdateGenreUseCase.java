@@ -0,0 +1,9 @@
+package com.catalog.application.genre.update;
+
+import com.catalog.application.UseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class UpdateGenreUseCase extends UseCase<UpdateGenreCommand, Either<Notification, UpdateGenreOutput>> {
+
+}
@@ -0,0 +1,93 @@
+package com.catalog.application.category.create;
+
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkCreateCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultBulkCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsBulkCreate_shouldCreateOnlyValidOnesInOneCall() {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var someCommands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Series", "Most watched", false)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        Assertions.assertEquals(3, actualOutput.size());
+        Assertions.assertTrue(actualOutput.get(0).isRight());
+        Assertions.assertNotNull(actualOutput.get(0).get().id());
+        Assertions.assertEquals(expectedErrorMessage, actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertTrue(actualOutput.get(2).isRight());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories ->
+                categories.size() == 2
+                && categories.get(0).getName().equals("Movies")
+                && categories.get(1).getName().equals("Series")
+        ));
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsBulkCreate_shouldReturnErrorForEveryValidItem() {
+        final var expectedErrorMessage = "Gateway error";
+        final var someCommands = List.of(
+                CreateCategoryCommand.with("Movies", null, true),
+                CreateCategoryCommand.with("Series", null, true)
+        );
+
+        when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        actualOutput.forEach(it -> Assertions.assertEquals(expectedErrorMessage, it.getLeft().firstError().message()));
+    }
+
+    @Test
+    public void givenTooManyCommands_whenCallsBulkCreate_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'items' must not have more than 1000 items";
+        final var someCommands = new ArrayList<CreateCategoryCommand>();
+
+        for (int i = 0; i <= DefaultBulkCreateCategoriesUseCase.MAX_ITEMS; i++) {
+            someCommands.add(CreateCategoryCommand.with("Movies", null, true));
+        }
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(someCommands));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+    }
+}
@@ -0,0 +1,82 @@
+package com.catalog.application.category.delete;
+
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkDeleteCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultBulkDeleteCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(this.categoryGateway, this.genreGateway);
+    }
+
+    @Test
+    public void givenManyIds_whenCallsBulkDelete_shouldDetachThemFromGenresOneChunkAtATime() {
+        final var ids = IntStream.range(0, 700).mapToObj(i -> CategoryID.unique().getValue()).toList();
+        final var genreIds = List.of(GenreID.unique(), GenreID.unique());
+
+        when(genreGateway.findIdsByCategories(any())).thenReturn(genreIds).thenReturn(List.of());
+
+        useCase.execute(ids);
+
+        verify(categoryGateway, times(1)).deleteAllByIds(argThat(someIds -> someIds.size() == 700));
+        verify(genreGateway, times(1)).findIdsByCategories(argThat(someIds -> someIds.size() == 500));
+        verify(genreGateway, times(1)).findIdsByCategories(argThat(someIds -> someIds.size() == 200));
+        verify(genreGateway, times(1)).removeCategories(
+                argThat((Collection<CategoryID> someIds) -> someIds.size() == 500),
+                eq(genreIds)
+        );
+        verify(genreGateway, never()).findIdsByCategory(any());
+        verify(genreGateway, never()).removeCategory(any(), any());
+        verifyNoMoreInteractions(genreGateway);
+    }
+
+    @Test
+    public void givenCategoriesUsedByManyGenres_whenCallsBulkDelete_shouldDetachThemOneGenreChunkAtATime() {
+        final var ids = List.of(CategoryID.unique().getValue(), CategoryID.unique().getValue());
+        final var genreIds = IntStream.range(0, 1_200).mapToObj(i -> GenreID.unique()).toList();
+
+        when(genreGateway.findIdsByCategories(any())).thenReturn(genreIds);
+
+        useCase.execute(ids);
+
+        verify(genreGateway, times(1)).findIdsByCategories(any());
+        verify(genreGateway, times(1)).removeCategories(any(), eq(genreIds.subList(0, 500)));
+        verify(genreGateway, times(1)).removeCategories(any(), eq(genreIds.subList(500, 1_000)));
+        verify(genreGateway, times(1)).removeCategories(any(), eq(genreIds.subList(1_000, 1_200)));
+        verifyNoMoreInteractions(genreGateway);
+    }
+
+    @Test
+    public void givenNoIds_whenCallsBulkDelete_shouldNotCallTheGateways() {
+        Assertions.assertDoesNotThrow(() -> useCase.execute(List.of()));
+
+        verifyNoInteractions(categoryGateway, genreGateway);
+    }
+}
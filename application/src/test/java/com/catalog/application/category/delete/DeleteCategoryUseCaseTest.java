@@ -3,6 +3,8 @@ package com.catalog.application.category.delete;
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryGateway;
 import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.genre.GenreID;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.stream.IntStream;
+
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,9 +26,12 @@ public class DeleteCategoryUseCaseTest {
     @Mock
     private CategoryGateway categoryGateway;
 
+    @Mock
+    private GenreGateway genreGateway;
+
     @BeforeEach
     void cleanUp() {
-        Mockito.reset(this.categoryGateway);
+        Mockito.reset(this.categoryGateway, this.genreGateway);
     }
 
     @Test
@@ -32,24 +39,42 @@ public class DeleteCategoryUseCaseTest {
         final var aCategory = Category.newCategory("Movies", "Category most watched", true);
         final var expectedId = aCategory.getId();
 
-        doNothing()
+        doReturn(true)
                 .when(this.categoryGateway)
                 .deleteById(Mockito.any());
 
         Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
         verify(categoryGateway, times(1)).deleteById(eq(expectedId));
+        verify(genreGateway, times(1)).findIdsByCategory(eq(expectedId));
+    }
+
+    @Test
+    public void givenACategoryUsedByManyGenres_whenCallsDeleteCategory_shouldRemoveItFromGenresInChunks() {
+        final var expectedId = CategoryID.unique();
+        final var genreIds = IntStream.range(0, 1_200).mapToObj(i -> GenreID.unique()).toList();
+
+        doReturn(true).when(categoryGateway).deleteById(eq(expectedId));
+        when(genreGateway.findIdsByCategory(eq(expectedId))).thenReturn(genreIds);
+
+        useCase.execute(expectedId.getValue());
+
+        verify(genreGateway, times(1)).removeCategory(eq(expectedId), eq(genreIds.subList(0, 500)));
+        verify(genreGateway, times(1)).removeCategory(eq(expectedId), eq(genreIds.subList(500, 1_000)));
+        verify(genreGateway, times(1)).removeCategory(eq(expectedId), eq(genreIds.subList(1_000, 1_200)));
+        verifyNoMoreInteractions(genreGateway);
     }
 
     @Test
     public void givenAnInvalidId_whenCallsDeleteCategory_shouldBeOK() {
         final var expectedId = CategoryID.from("123");
 
-        doNothing()
+        doReturn(false)
                 .when(this.categoryGateway)
                 .deleteById(Mockito.any());
 
         Assertions.assertDoesNotThrow(() -> useCase.execute(expectedId.getValue()));
         verify(categoryGateway, times(1)).deleteById(eq(expectedId));
+        verifyNoInteractions(genreGateway);
     }
 
     @Test
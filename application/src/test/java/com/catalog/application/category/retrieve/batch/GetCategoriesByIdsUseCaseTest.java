@@ -0,0 +1,80 @@
+package com.catalog.application.category.retrieve.batch;
+
+import com.catalog.application.category.retrieve.get.CategoryOutput;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GetCategoriesByIdsUseCaseTest {
+    @InjectMocks
+    private DefaultGetCategoriesByIdsUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenValidIds_whenCallsGetCategoriesByIds_shouldReturnInRequestOrderWithMissing() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        final var someIds = List.of(series.getId().getValue(), "123", movies.getId().getValue(), series.getId().getValue());
+
+        when(categoryGateway.findAllByIds(any()))
+                .thenReturn(List.of(movies.clone(), series.clone()));
+
+        final var actualOutput = useCase.execute(someIds);
+
+        Assertions.assertEquals(List.of(CategoryOutput.from(series), CategoryOutput.from(movies)), actualOutput.items());
+        Assertions.assertEquals(List.of("123"), actualOutput.missing());
+
+        verify(categoryGateway, times(1)).findAllByIds(any());
+    }
+
+    @Test
+    public void givenNoIds_whenCallsGetCategoriesByIds_shouldNotCallGateway() {
+        final var actualOutput = useCase.execute(List.of());
+
+        Assertions.assertTrue(actualOutput.items().isEmpty());
+        Assertions.assertTrue(actualOutput.missing().isEmpty());
+
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesByIds_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'ids' must not have more than 500 items";
+        final var someIds = new ArrayList<String>();
+
+        for (int i = 0; i <= DefaultGetCategoriesByIdsUseCase.MAX_IDS; i++) {
+            someIds.add(String.valueOf(i));
+        }
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(someIds));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).findAllByIds(any());
+    }
+}
@@ -0,0 +1,126 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class BulkUpdateCategoriesUseCaseTest {
+    @InjectMocks
+    private DefaultBulkUpdateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenCommands_whenCallsBulkUpdate_shouldReportInvalidAndDuplicatedItemsWithoutReadingFirst() {
+        final var moviesId = CategoryID.unique().getValue();
+        final var seriesId = CategoryID.unique().getValue();
+
+        final var someCommands = List.of(
+                UpdateCategoryCommand.with(moviesId, "Movies", "Most watched", true),
+                UpdateCategoryCommand.with(seriesId, null, null, true),
+                UpdateCategoryCommand.with(moviesId, "Films", null, true),
+                UpdateCategoryCommand.with(null, "Series", null, true)
+        );
+
+        when(categoryGateway.updateAll(any(), any())).thenReturn(Map.of());
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        Assertions.assertEquals(moviesId, actualOutput.get(0).get().id());
+        Assertions.assertNull(actualOutput.get(0).get().version());
+        Assertions.assertEquals("'name' should not be null", actualOutput.get(1).getLeft().firstError().message());
+        Assertions.assertEquals("'id' %s is duplicated".formatted(moviesId), actualOutput.get(2).getLeft().firstError().message());
+        Assertions.assertEquals("'id' should not be null", actualOutput.get(3).getLeft().firstError().message());
+
+        verify(categoryGateway, never()).findAllByIds(any());
+        verify(categoryGateway, times(1)).updateAll(
+                argThat(categories -> categories.size() == 1
+                        && categories.get(0).getName().equals("Movies")
+                        && categories.get(0).getDescription().equals("Most watched")),
+                eq(Map.of())
+        );
+    }
+
+    @Test
+    public void givenExpectedVersions_whenCallsBulkUpdate_shouldPassThemToTheGatewayAndReturnTheNextOnes() {
+        final var moviesId = CategoryID.unique().getValue();
+        final var seriesId = CategoryID.unique().getValue();
+
+        final var someCommands = List.of(
+                UpdateCategoryCommand.with(moviesId, "Movies", null, true, 2L),
+                UpdateCategoryCommand.with(seriesId, "Series", null, false)
+        );
+
+        when(categoryGateway.updateAll(any(), any())).thenReturn(Map.of());
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        Assertions.assertEquals(3L, actualOutput.get(0).get().version());
+        Assertions.assertNull(actualOutput.get(1).get().version());
+
+        verify(categoryGateway, times(1)).updateAll(
+                argThat(categories -> categories.size() == 2
+                        && !categories.get(1).isActive()
+                        && categories.get(1).getDeletedAt() != null),
+                eq(Map.of(CategoryID.from(moviesId), 2L))
+        );
+    }
+
+    @Test
+    public void givenAStaleAndAMissingCategory_whenCallsBulkUpdate_shouldReportOnlyThoseItems() {
+        final var moviesId = CategoryID.unique();
+        final var seriesId = CategoryID.unique();
+        final var documentariesId = CategoryID.unique();
+
+        final var someCommands = List.of(
+                UpdateCategoryCommand.with(moviesId.getValue(), "Movies", null, true, 1L),
+                UpdateCategoryCommand.with(seriesId.getValue(), "Series", null, true, 1L),
+                UpdateCategoryCommand.with(documentariesId.getValue(), "Documentaries", null, true)
+        );
+
+        when(categoryGateway.updateAll(any(), any())).thenReturn(Map.of(
+                seriesId, PreconditionFailedException.with(Category.class, seriesId),
+                documentariesId, NotFoundException.with(Category.class, documentariesId)
+        ));
+
+        final var actualOutput = useCase.execute(someCommands);
+
+        Assertions.assertEquals(moviesId.getValue(), actualOutput.get(0).get().id());
+        Assertions.assertEquals(
+                "Category with ID %s was modified concurrently".formatted(seriesId.getValue()),
+                actualOutput.get(1).getLeft().firstError().message()
+        );
+        Assertions.assertEquals(
+                "Category with ID %s was not found".formatted(documentariesId.getValue()),
+                actualOutput.get(2).getLeft().firstError().message()
+        );
+    }
+}
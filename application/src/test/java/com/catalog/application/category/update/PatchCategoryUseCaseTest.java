@@ -0,0 +1,129 @@
+package com.catalog.application.category.update;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Objects;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PatchCategoryUseCaseTest {
+    @InjectMocks
+    private DefaultPatchCategoryUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(this.categoryGateway);
+    }
+
+    @Test
+    public void givenOnlyIsActive_whenCallsPatchCategory_shouldOnlyPatchActive() {
+        final var expectedId = CategoryID.unique();
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), null, null, false);
+
+        when(categoryGateway.patch(any(), any(), any()))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertNull(actualOutput.version());
+
+        verify(categoryGateway, Mockito.never()).findById(any());
+        verify(categoryGateway, Mockito.times(1)).patch(
+                argThat(aPatchedCategory -> Objects.equals(expectedId, aPatchedCategory.getId())
+                        && !aPatchedCategory.isActive()
+                        && Objects.nonNull(aPatchedCategory.getDeletedAt())),
+                eq(Set.of(CategoryAttribute.ACTIVE)),
+                isNull()
+        );
+    }
+
+    @Test
+    public void givenNameAndAnExpectedVersion_whenCallsPatchCategory_shouldPassItToTheGatewayAndReturnTheNextOne() {
+        final var expectedId = CategoryID.unique();
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), "Movies", null, null, 2L);
+
+        when(categoryGateway.patch(any(), eq(Set.of(CategoryAttribute.NAME)), eq(2L)))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(3L, actualOutput.version());
+        verify(categoryGateway, Mockito.never()).findById(any());
+    }
+
+    @Test
+    public void givenNoFields_whenCallsPatchCategory_shouldKeepTheExpectedVersion() {
+        final var expectedId = CategoryID.unique();
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), null, null, null, 2L);
+
+        when(categoryGateway.patch(any(), eq(Set.of()), eq(2L)))
+                .thenReturn(true);
+
+        Assertions.assertEquals(2L, useCase.execute(aCommand).get().version());
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_shouldReturnDomainException() {
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), " ", null, null);
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        verify(categoryGateway, Mockito.never()).patch(any(), any(), any());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenGatewayDetectsVersionConflict_shouldReturnPreconditionFailed() {
+        final var expectedId = CategoryID.unique();
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), null, null, false, 2L);
+
+        when(categoryGateway.patch(any(), any(), eq(2L)))
+                .thenThrow(PreconditionFailedException.with(Category.class, expectedId));
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> useCase.execute(aCommand));
+        verify(categoryGateway, Mockito.never()).findById(any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsPatchCategory_shouldReturnNotFoundException() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        final var aCommand = PatchCategoryCommand.with(expectedId.getValue(), null, null, false);
+
+        when(categoryGateway.patch(any(), any(), any()))
+                .thenReturn(false);
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -3,8 +3,8 @@ package com.catalog.application.category.update;
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryGateway;
 import com.catalog.domain.category.CategoryID;
-import com.catalog.domain.exceptions.DomainException;
 import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,9 +15,7 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Objects;
-import java.util.Optional;
 
-import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,156 +49,104 @@ public class UpdateCategoryUseCaseTest {
                 expectIsActive
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
-                .thenReturn(Optional.of(aCategory.clone()));
-
-        when(categoryGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(categoryGateway.update(any(), any()))
+                .thenReturn(true);
 
         final var actualOutput = useCase.execute(aCommand).get();
 
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Assertions.assertNull(actualOutput.version());
 
-        verify(categoryGateway, Mockito.times(1)).findById(eq(expectedId));
+        verify(categoryGateway, Mockito.never()).findById(any());
         verify(categoryGateway, Mockito.times(1)).update(argThat(
                 anUpdatedCategory -> Objects.equals(expectName, anUpdatedCategory.getName())
                         && Objects.equals(expectDescription, anUpdatedCategory.getDescription())
                         && Objects.equals(expectIsActive, anUpdatedCategory.isActive())
                         && Objects.equals(expectedId, anUpdatedCategory.getId())
-                        && Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt())
                         && aCategory.getUpdatedAt().isBefore(anUpdatedCategory.getUpdatedAt())
                         && Objects.isNull(anUpdatedCategory.getDeletedAt())
-        ));
+        ), isNull());
     }
 
     @Test
     public void givenAnInvalidName_whenCallsUpdateCategory_shouldReturnDomainException() {
-        final var aCategory = Category.newCategory("Horror", null, true);
-
-        final var expectDescription = "Category of movies";
-        final var expectIsActive = true;
-
-        final var expectedId = aCategory.getId();
+        final var expectedId = CategoryID.unique();
         final var expectedErrorMessage = "'name' should not be null";
 
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(),
                 null,
-                expectDescription,
-                expectIsActive
+                "Category of movies",
+                true
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
-                .thenReturn(Optional.of(aCategory.clone()));
-
         final var actualOutput = useCase.execute(aCommand).getLeft();
 
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedErrorMessage, actualOutput.firstError().message());
 
-        verify(categoryGateway, Mockito.times(1)).findById(eq(expectedId));
-        verify(categoryGateway, Mockito.times(0)).update(any());
+        verify(categoryGateway, Mockito.times(0)).update(any(), any());
     }
 
     @Test
     public void givenAValidCommand_whenCallsUpdateCategoryToInactive_shouldReturnCategoryId() {
-        final var aCategory = Category.newCategory("Horror", null, true);
-
-        final var expectName = "Movies";
-        final var expectDescription = "Category of movies";
-        final var expectIsActive = false;
+        final var expectedId = CategoryID.unique();
 
-        final var expectedId = aCategory.getId();
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(),
-                expectName,
-                expectDescription,
-                expectIsActive
+                "Movies",
+                "Category of movies",
+                false
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
-                .thenReturn(Optional.of(aCategory.clone()));
-
-        when(categoryGateway.update(any()))
-                .thenAnswer(returnsFirstArg());
+        when(categoryGateway.update(any(), any()))
+                .thenReturn(true);
 
         final var actualOutput = useCase.execute(aCommand).get();
 
-        Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
-        verify(categoryGateway, Mockito.times(1)).findById(eq(expectedId));
         verify(categoryGateway, Mockito.times(1)).update(argThat(
-                anUpdatedCategory -> Objects.equals(expectName, anUpdatedCategory.getName())
-                        && Objects.equals(expectDescription, anUpdatedCategory.getDescription())
-                        && Objects.equals(expectIsActive, anUpdatedCategory.isActive())
-                        && Objects.equals(expectedId, anUpdatedCategory.getId())
-                        && Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt())
-                        && aCategory.getUpdatedAt().isBefore(anUpdatedCategory.getUpdatedAt())
-                        && Objects.nonNull(anUpdatedCategory.getDeletedAt())
-        ));
+                anUpdatedCategory -> !anUpdatedCategory.isActive() && Objects.nonNull(anUpdatedCategory.getDeletedAt())
+        ), isNull());
     }
 
     @Test
     public void givenAValidCommand_whenGatewayThrowsRandomException_shouldReturnAnException() {
-        final var aCategory = Category.newCategory("Horror", null, true);
-
-        final var expectName = "Movies";
-        final var expectDescription = "Category of movies";
-        final var expectIsActive = true;
-
-        final var expectedId = aCategory.getId();
+        final var expectedId = CategoryID.unique();
         final var expectedErrorMessage = "Gateway error";
 
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId.getValue(),
-                expectName,
-                expectDescription,
-                expectIsActive
+                "Movies",
+                "Category of movies",
+                true
         );
 
-        when(categoryGateway.findById(eq(expectedId)))
-                .thenReturn(Optional.of(aCategory.clone()));
-
-        when(categoryGateway.update(any()))
+        when(categoryGateway.update(any(), any()))
                 .thenThrow(new IllegalStateException(expectedErrorMessage));
 
         final var actualOutput = useCase.execute(aCommand).getLeft();
 
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedErrorMessage, actualOutput.firstError().message());
-
-        verify(categoryGateway, Mockito.times(1)).findById(eq(expectedId));
-        verify(categoryGateway, Mockito.times(1)).update(argThat(
-                anUpdatedCategory -> Objects.equals(expectName, anUpdatedCategory.getName())
-                        && Objects.equals(expectDescription, anUpdatedCategory.getDescription())
-                        && Objects.equals(expectIsActive, anUpdatedCategory.isActive())
-                        && Objects.equals(expectedId, anUpdatedCategory.getId())
-                        && Objects.equals(aCategory.getCreatedAt(), anUpdatedCategory.getCreatedAt())
-                        && aCategory.getUpdatedAt().isBefore(anUpdatedCategory.getUpdatedAt())
-                        && Objects.isNull(anUpdatedCategory.getDeletedAt())
-        ));
     }
 
     @Test
     public void givenACommandWithInvalidID_whenCallsUpdateCategory_shouldReturnNotFoundException() {
-        final var expectName = "Movies";
-        final var expectDescription = "Category of movies";
-        final var expectIsActive = true;
-
         final var expectedId = "XXXXXXXXX";
         final var expectedErrorMessage = "Category with ID XXXXXXXXX was not found";
 
         final var aCommand = UpdateCategoryCommand.with(
                 expectedId,
-                expectName,
-                expectDescription,
-                expectIsActive
+                "Movies",
+                "Category of movies",
+                true
         );
 
-        when(categoryGateway.findById(eq(CategoryID.from(expectedId))))
-                .thenReturn(Optional.empty());
+        when(categoryGateway.update(any(), any()))
+                .thenReturn(false);
 
         final var actualOutput = Assertions.assertThrows(
                 NotFoundException.class,
@@ -208,8 +154,39 @@ public class UpdateCategoryUseCaseTest {
         );
 
         Assertions.assertEquals(expectedErrorMessage, actualOutput.getMessage());
+    }
+
+    @Test
+    public void givenAnExpectedVersion_whenCallsUpdateCategory_shouldPassItToTheGatewayAndReturnTheNextOne() {
+        final var expectedId = CategoryID.unique();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Movies", null, true, 3L);
+
+        when(categoryGateway.update(any(), eq(3L)))
+                .thenReturn(true);
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(4L, actualOutput.version());
+        verify(categoryGateway, Mockito.never()).findById(any());
+    }
+
+    @Test
+    public void givenAStaleExpectedVersion_whenGatewayDetectsVersionConflict_shouldReturnPreconditionFailed() {
+        final var expectedId = CategoryID.unique();
+        final var expectedErrorMessage = "Category with ID %s was modified concurrently".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Movies", null, true, 0L);
+
+        when(categoryGateway.update(any(), eq(0L)))
+                .thenThrow(PreconditionFailedException.with(Category.class, expectedId));
+
+        final var actualException = Assertions.assertThrows(
+                PreconditionFailedException.class,
+                () -> useCase.execute(aCommand)
+        );
 
-        verify(categoryGateway, Mockito.times(1)).findById(eq(CategoryID.from(expectedId)));
-        verify(categoryGateway, Mockito.times(0)).update(any());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(categoryGateway, Mockito.never()).findById(any());
     }
 }
@@ -0,0 +1,110 @@
+package com.catalog.application.genre.create;
+
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateGenreUseCaseTest {
+    @InjectMocks
+    private DefaultCreateGenreUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(this.categoryGateway, this.genreGateway);
+    }
+
+    @Test
+    public void givenAValidCommandWithManyCategories_whenCallsCreateGenre_shouldCheckThemInASingleCall() {
+        final var expectedCategories = IntStream.range(0, 200)
+                .mapToObj(i -> CategoryID.unique())
+                .toList();
+
+        final var aCommand = CreateGenreCommand.with(
+                "Action",
+                true,
+                expectedCategories.stream().map(CategoryID::getValue).toList()
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of());
+        when(genreGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertNotNull(actualOutput.id());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids -> ids.size() == 200));
+        verify(categoryGateway, never()).findById(any());
+        verify(genreGateway, times(1)).create(argThat(aGenre ->
+                Objects.equals("Action", aGenre.getName())
+                        && aGenre.isActive()
+                        && Objects.equals(expectedCategories, aGenre.getCategories())
+        ));
+    }
+
+    @Test
+    public void givenMissingCategoriesAndAnInvalidName_whenCallsCreateGenre_shouldReportAllInOneNotification() {
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+        final var documentaries = CategoryID.unique();
+
+        final var expectedErrorMessage = "Some categories could not be found: %s, %s"
+                .formatted(series.getValue(), documentaries.getValue());
+
+        final var aCommand = CreateGenreCommand.with(
+                " ",
+                true,
+                List.of(movies.getValue(), series.getValue(), documentaries.getValue())
+        );
+
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(series, documentaries));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(2, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
+        Assertions.assertEquals("'name' should not be empty", notification.getErrors().get(1).message());
+
+        verify(genreGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenACommandWithoutCategories_whenCallsCreateGenre_shouldNotCheckCategories() {
+        final var aCommand = CreateGenreCommand.with("Action", false, null);
+
+        when(genreGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        Assertions.assertNotNull(useCase.execute(aCommand).get().id());
+
+        verify(categoryGateway, never()).existsByIds(any());
+        verify(genreGateway, times(1)).create(argThat(aGenre ->
+                !aGenre.isActive() && Objects.nonNull(aGenre.getDeletedAt()) && aGenre.getCategories().isEmpty()
+        ));
+    }
+}
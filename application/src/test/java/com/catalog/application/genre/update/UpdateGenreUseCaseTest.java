@@ -0,0 +1,115 @@
+package com.catalog.application.genre.update;
+
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.genre.GenreID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class UpdateGenreUseCaseTest {
+    @InjectMocks
+    private DefaultUpdateGenreUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @BeforeEach
+    void cleanUp() {
+        Mockito.reset(this.categoryGateway, this.genreGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsUpdateGenre_shouldReturnGenreId() {
+        final var aGenre = Genre.newGenre("Acton", true);
+        final var expectedId = aGenre.getId();
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+
+        final var aCommand = UpdateGenreCommand.with(
+                expectedId.getValue(),
+                "Action",
+                true,
+                List.of(movies.getValue(), series.getValue(), movies.getValue())
+        );
+
+        when(genreGateway.findById(eq(expectedId))).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of());
+        when(genreGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+
+        verify(categoryGateway, times(1)).existsByIds(eq(List.of(movies, series)));
+        verify(genreGateway, times(1)).update(argThat(anUpdatedGenre ->
+                Objects.equals("Action", anUpdatedGenre.getName())
+                        && Objects.equals(List.of(movies, series), anUpdatedGenre.getCategories())
+                        && Objects.equals(aGenre.getCreatedAt(), anUpdatedGenre.getCreatedAt())
+        ));
+    }
+
+    @Test
+    public void givenMissingCategories_whenCallsUpdateGenre_shouldReturnThemInOneNotification() {
+        final var aGenre = Genre.newGenre("Action", true);
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+
+        final var expectedErrorMessage = "Some categories could not be found: %s, %s"
+                .formatted(movies.getValue(), series.getValue());
+
+        final var aCommand = UpdateGenreCommand.with(
+                aGenre.getId().getValue(),
+                "Action",
+                true,
+                List.of(movies.getValue(), series.getValue())
+        );
+
+        when(genreGateway.findById(eq(aGenre.getId()))).thenReturn(Optional.of(Genre.with(aGenre)));
+        when(categoryGateway.existsByIds(any())).thenReturn(List.of(movies, series));
+
+        final var notification = useCase.execute(aCommand).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+
+        verify(genreGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAnUnknownId_whenCallsUpdateGenre_shouldThrowNotFound() {
+        final var anId = GenreID.unique();
+        final var aCommand = UpdateGenreCommand.with(anId.getValue(), "Action", true, List.of());
+
+        when(genreGateway.findById(eq(anId))).thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals("Genre with ID %s was not found".formatted(anId.getValue()), actualException.getMessage());
+    }
+}
@@ -0,0 +1,46 @@
+package com.catalog.benchmarks;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.validation.Error;
+import com.catalog.domain.validation.handler.Notification;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryDomainBenchmark {
+    private final String name = "Movies";
+    private final String description = "The most watched category";
+    private final String invalidName = " ";
+
+    @Benchmark
+    public Notification newCategoryAndValidate() {
+        final var notification = Notification.create();
+        Category.newCategory(this.name, this.description, true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification newInvalidCategoryAndValidate() {
+        final var notification = Notification.create();
+        Category.newCategory(this.invalidName, this.description, true).validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification createEmptyNotification() {
+        return Notification.create();
+    }
+
+    @Benchmark
+    public Notification createNotificationWithError() {
+        return Notification.create(new Error("'name' should not be empty"));
+    }
+}
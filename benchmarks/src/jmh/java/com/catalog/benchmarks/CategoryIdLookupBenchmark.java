@@ -0,0 +1,73 @@
+package com.catalog.benchmarks;
+
+import com.catalog.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryIdLookupBenchmark {
+    @Param({"1000", "100000"})
+    private int size;
+
+    private Map<String, Integer> byString;
+    private Map<CategoryID, Integer> byCategoryId;
+
+    // equal to the map keys but distinct instances, like ids that arrive with a request
+    private String[] stringProbes;
+    private CategoryID[] categoryIdProbes;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.byString = new HashMap<>(this.size * 2);
+        this.byCategoryId = new HashMap<>(this.size * 2);
+        this.stringProbes = new String[this.size];
+        this.categoryIdProbes = new CategoryID[this.size];
+
+        for (int i = 0; i < this.size; i++) {
+            final var anId = UUID.randomUUID().toString();
+
+            this.byString.put(anId, i);
+            this.byCategoryId.put(CategoryID.from(anId), i);
+
+            this.stringProbes[i] = new String(anId.toCharArray());
+            this.categoryIdProbes[i] = CategoryID.from(anId);
+        }
+    }
+
+    @Benchmark
+    public Integer lookupByString() {
+        return this.byString.get(this.stringProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer lookupByCategoryId() {
+        return this.byCategoryId.get(this.categoryIdProbes[nextIndex()]);
+    }
+
+    @Benchmark
+    public Integer parseAndLookupByCategoryId() {
+        return this.byCategoryId.get(CategoryID.from(this.stringProbes[nextIndex()]));
+    }
+
+    private int nextIndex() {
+        final var index = this.next;
+        this.next = index + 1 == this.size ? 0 : index + 1;
+        return index;
+    }
+}
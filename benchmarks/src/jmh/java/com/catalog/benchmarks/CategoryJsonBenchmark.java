@@ -0,0 +1,46 @@
+package com.catalog.benchmarks;
+
+import com.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.models.CategoryListResponse;
+import com.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.catalog.infrastructure.configuration.Json;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CategoryJsonBenchmark {
+    @Param({"10", "50", "100"})
+    private int pageSize;
+
+    private Pagination<CategoryListResponse> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var items = IntStream.range(0, this.pageSize)
+                .mapToObj(i -> Category.newCategory("Category " + i, "Description of category " + i, i % 2 == 0))
+                .map(CategoryListOutput::from)
+                .map(CategoryApiPresenter::present)
+                .toList();
+
+        this.page = new Pagination<>(0, this.pageSize, this.pageSize * 10L, items);
+    }
+
+    @Benchmark
+    public String writePage() {
+        return Json.writeValueAsString(this.page);
+    }
+}
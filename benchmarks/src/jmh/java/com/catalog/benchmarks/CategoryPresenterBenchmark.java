@@ -0,0 +1,44 @@
+package com.catalog.benchmarks;
+
+import com.catalog.application.category.retrieve.get.CategoryOutput;
+import com.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.catalog.domain.category.Category;
+import com.catalog.infrastructure.category.models.CategoryListResponse;
+import com.catalog.infrastructure.category.models.CategoryResponse;
+import com.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryPresenterBenchmark {
+    private CategoryOutput output;
+    private CategoryListOutput listOutput;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var aCategory = Category.newCategory("Movies", "The most watched category", true);
+
+        this.output = CategoryOutput.from(aCategory);
+        this.listOutput = CategoryListOutput.from(aCategory);
+    }
+
+    @Benchmark
+    public CategoryResponse presentCategory() {
+        return CategoryApiPresenter.present(this.output);
+    }
+
+    @Benchmark
+    public CategoryListResponse presentListItem() {
+        return CategoryApiPresenter.present(this.listOutput);
+    }
+}
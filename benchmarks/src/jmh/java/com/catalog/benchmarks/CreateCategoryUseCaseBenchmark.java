@@ -0,0 +1,45 @@
+package com.catalog.benchmarks;
+
+import com.catalog.application.category.create.CreateCategoryCommand;
+import com.catalog.application.category.create.CreateCategoryOutput;
+import com.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.catalog.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateCategoryUseCaseBenchmark {
+    private static final int GATEWAY_CAPACITY = 10_000;
+
+    private DefaultCreateCategoryUseCase useCase;
+    private CreateCategoryCommand validCommand;
+    private CreateCategoryCommand invalidCommand;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.useCase = new DefaultCreateCategoryUseCase(new InMemoryCategoryGateway(GATEWAY_CAPACITY));
+        this.validCommand = CreateCategoryCommand.with("Movies", "The most watched category", true);
+        this.invalidCommand = CreateCategoryCommand.with(" ", "The most watched category", true);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeValid() {
+        return this.useCase.execute(this.validCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> executeInvalid() {
+        return this.useCase.execute(this.invalidCommand);
+    }
+}
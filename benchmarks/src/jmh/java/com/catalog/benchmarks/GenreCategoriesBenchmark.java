@@ -0,0 +1,102 @@
+package com.catalog.benchmarks;
+
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.utils.InstantUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+// the ArrayList side reproduces how Genre kept its categories before it switched to a set
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GenreCategoriesBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int size;
+
+    private List<CategoryID> ids;
+    private List<CategoryID> list;
+    private Genre genre;
+
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.ids = IntStream.range(0, this.size).mapToObj(i -> CategoryID.unique()).toList();
+        this.list = new ArrayList<>(this.ids);
+        this.genre = Genre.newGenre("Action", true).addCategories(this.ids);
+    }
+
+    @Benchmark
+    public boolean containsWithList() {
+        return this.list.contains(nextId());
+    }
+
+    @Benchmark
+    public boolean containsWithGenre() {
+        return this.genre.containsCategory(nextId());
+    }
+
+    // removes and re-adds the same id so the collection keeps its size across invocations
+    @Benchmark
+    public List<CategoryID> removeAndAddWithList() {
+        final var anId = nextId();
+        this.list.remove(anId);
+        this.list.add(anId);
+        return this.list;
+    }
+
+    @Benchmark
+    public Genre removeAndAddWithGenre() {
+        final var anId = nextId();
+        return this.genre.removeCategory(anId).addCategory(anId);
+    }
+
+    @Benchmark
+    public int readWithList() {
+        return Collections.unmodifiableList(this.list).size();
+    }
+
+    @Benchmark
+    public int readWithGenre() {
+        return this.genre.getCategories().size();
+    }
+
+    @Benchmark
+    public Genre bulkAddWithGenre() {
+        return Genre.newGenre("Action", true).addCategories(this.ids);
+    }
+
+    // one addCategory() per id, each of them reading the clock to bump updatedAt
+    @Benchmark
+    public List<CategoryID> bulkAddWithList(final Blackhole blackhole) {
+        final var aList = new ArrayList<CategoryID>();
+
+        for (final var anId : this.ids) {
+            aList.add(anId);
+            blackhole.consume(InstantUtils.now());
+        }
+
+        return aList;
+    }
+
+    private CategoryID nextId() {
+        final var index = this.next;
+        this.next = index + 1 == this.size ? 0 : index + 1;
+        return this.ids.get(index);
+    }
+}
@@ -0,0 +1,140 @@
+package com.catalog.benchmarks;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchQuery;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+// bounded, so a long run measures the use case rather than the growth of the map
+public class InMemoryCategoryGateway implements CategoryGateway {
+    private final int capacity;
+    private final Map<CategoryID, Category> categories;
+
+    public InMemoryCategoryGateway(final int capacity) {
+        this.capacity = capacity;
+        this.categories = new HashMap<>(capacity * 2);
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        if (this.categories.size() >= this.capacity) {
+            this.categories.clear();
+        }
+
+        this.categories.put(aCategory.getId(), aCategory);
+        return aCategory;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> someCategories) {
+        someCategories.forEach(this::create);
+        return someCategories;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        return Optional.ofNullable(this.categories.get(anId));
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> someIds) {
+        return someIds.stream().map(this.categories::get).filter(Objects::nonNull).toList();
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Collection<CategoryID> someIds) {
+        return someIds.stream().filter(anId -> !this.categories.containsKey(anId)).distinct().toList();
+    }
+
+    @Override
+    public boolean update(final Category aCategory, final Long anExpectedVersion) {
+        return this.categories.replace(aCategory.getId(), aCategory) != null;
+    }
+
+    @Override
+    public boolean patch(
+            final Category aCategory,
+            final Set<CategoryAttribute> someAttributes,
+            final Long anExpectedVersion
+    ) {
+        return update(aCategory, anExpectedVersion);
+    }
+
+    @Override
+    public Map<CategoryID, DomainException> updateAll(
+            final List<Category> someCategories,
+            final Map<CategoryID, Long> someExpectedVersions
+    ) {
+        final var failures = new HashMap<CategoryID, DomainException>();
+
+        for (final var aCategory : someCategories) {
+            if (this.categories.replace(aCategory.getId(), aCategory) == null) {
+                failures.put(aCategory.getId(), NotFoundException.with(Category.class, aCategory.getId()));
+            }
+        }
+
+        return failures;
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID anId) {
+        return this.categories.remove(anId) != null;
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryID> someIds) {
+        someIds.forEach(this.categories::remove);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        final var terms = Optional.ofNullable(aQuery.terms())
+                .map(String::trim)
+                .map(str -> str.toLowerCase(Locale.ROOT))
+                .orElse("");
+
+        // the LIKE search of the MySQL gateway, over name and description, always paginated by offset
+        final var matches = this.categories.values().stream()
+                .filter(aCategory -> terms.isEmpty()
+                        || contains(aCategory.getName(), terms)
+                        || contains(aCategory.getDescription(), terms))
+                .sorted(comparatorOf(aQuery))
+                .toList();
+
+        final var from = Math.min(matches.size(), aQuery.page() * aQuery.perPage());
+        final var to = Math.min(matches.size(), from + aQuery.perPage());
+
+        return new Pagination<>(aQuery.page(), aQuery.perPage(), matches.size(), matches.subList(from, to));
+    }
+
+    private static boolean contains(final String aValue, final String terms) {
+        return aValue != null && aValue.toLowerCase(Locale.ROOT).contains(terms);
+    }
+
+    private static Comparator<Category> comparatorOf(final SearchQuery aQuery) {
+        final Comparator<Category> byId = Comparator.comparing(aCategory -> aCategory.getId().getValue());
+
+        final var aComparator = switch (Optional.ofNullable(aQuery.sort()).orElse("id")) {
+            case "name" -> Comparator.comparing(Category::getName).thenComparing(byId);
+            case "createdAt", "created_at" -> Comparator.comparing(Category::getCreatedAt).thenComparing(byId);
+            case "active" -> Comparator.comparing(Category::isActive).thenComparing(Category::getName).thenComparing(byId);
+            default -> byId;
+        };
+
+        return "desc".equalsIgnoreCase(aQuery.direction()) ? aComparator.reversed() : aComparator;
+    }
+}
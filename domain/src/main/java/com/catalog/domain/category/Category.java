@@ -14,6 +14,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
+    private long version;
 
     private Category(
             final CategoryID anId,
@@ -22,7 +23,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Boolean isActive,
             final Instant aCreatedAt,
             final Instant anUpdatedAt,
-            final Instant aDeletedAt
+            final Instant aDeletedAt,
+            final long aVersion
     ) {
         super(anId);
         this.name = aName;
@@ -31,6 +33,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(aCreatedAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(anUpdatedAt, "'updatedAt' should not be null");
         this.deletedAt = aDeletedAt;
+        this.version = aVersion;
     }
 
     public static Category newCategory(final String aName, final String aDescription, final Boolean isActive) {
@@ -38,7 +41,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : InstantUtils.now();
 
-        return new Category(id, aName, aDescription, isActive, now, now, deletedAt);
+        return new Category(id, aName, aDescription, isActive, now, now, deletedAt, 0);
     }
 
     public static Category with(
@@ -50,7 +53,20 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
             final Instant anUpdatedAt,
             final Instant aDeletedAt
     ) {
-        return new Category(anId, aName, aDescription, isActive, aCreatedAt, anUpdatedAt, aDeletedAt);
+        return with(anId, aName, aDescription, isActive, aCreatedAt, anUpdatedAt, aDeletedAt, 0);
+    }
+
+    public static Category with(
+            final CategoryID anId,
+            final String aName,
+            final String aDescription,
+            final Boolean isActive,
+            final Instant aCreatedAt,
+            final Instant anUpdatedAt,
+            final Instant aDeletedAt,
+            final long aVersion
+    ) {
+        return new Category(anId, aName, aDescription, isActive, aCreatedAt, anUpdatedAt, aDeletedAt, aVersion);
     }
 
     @Override
@@ -123,6 +139,10 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public Category clone() {
         try {
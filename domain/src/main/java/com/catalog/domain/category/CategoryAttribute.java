@@ -0,0 +1,7 @@
+package com.catalog.domain.category;
+
+public enum CategoryAttribute {
+    NAME,
+    DESCRIPTION,
+    ACTIVE
+}
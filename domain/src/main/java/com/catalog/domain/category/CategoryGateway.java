@@ -1,14 +1,25 @@
 package com.catalog.domain.category;
 
+import com.catalog.domain.exceptions.DomainException;
 import com.catalog.domain.pagination.SearchQuery;
 import com.catalog.domain.pagination.Pagination;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
+    List<Category> createAll(List<Category> someCategories);
     Optional<Category> findById(CategoryID anId);
-    Category update(Category aCategory);
-    void deleteById(CategoryID anId);
+    List<Category> findAllByIds(Collection<CategoryID> someIds);
+    List<CategoryID> existsByIds(Collection<CategoryID> someIds);
+    boolean update(Category aCategory, Long anExpectedVersion);
+    boolean patch(Category aCategory, Set<CategoryAttribute> someAttributes, Long anExpectedVersion);
+    Map<CategoryID, DomainException> updateAll(List<Category> someCategories, Map<CategoryID, Long> someExpectedVersions);
+    boolean deleteById(CategoryID anId);
+    void deleteAllByIds(Collection<CategoryID> someIds);
     Pagination<Category> findAll(SearchQuery aQuery);
 }
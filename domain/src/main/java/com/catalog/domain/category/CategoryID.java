@@ -1,33 +1,69 @@
 package com.catalog.domain.category;
 
 import com.catalog.domain.Identifier;
+import com.catalog.domain.utils.IdUtils;
 
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 public class CategoryID extends Identifier {
-    private final String value;
+    private static final int UUID_LENGTH = 36;
 
-    private CategoryID(String value) {
-        Objects.requireNonNull(value);
-        this.value = value;
+    private final long mostSigBits;
+    private final long leastSigBits;
+
+    // only set for ids that are not canonical UUIDs, which never match a stored category
+    private final String raw;
+
+    // rendered on first use; racing threads build equal strings, so no synchronization is needed
+    private String value;
+
+    private CategoryID(final long mostSigBits, final long leastSigBits) {
+        this.mostSigBits = mostSigBits;
+        this.leastSigBits = leastSigBits;
+        this.raw = null;
+    }
+
+    private CategoryID(final String raw) {
+        this.mostSigBits = 0;
+        this.leastSigBits = 0;
+        this.raw = Objects.requireNonNull(raw);
+        this.value = raw;
     }
 
     public static CategoryID unique() {
-        return CategoryID.from(UUID.randomUUID());
+        return CategoryID.from(IdUtils.uuid());
     }
 
     public static CategoryID from(final String anId) {
-        return new CategoryID(anId);
+        Objects.requireNonNull(anId);
+
+        if (!isCanonical(anId)) {
+            return new CategoryID(anId);
+        }
+
+        return new CategoryID(parseHex(anId, 0, 18), parseHex(anId, 19, UUID_LENGTH));
     }
 
     public static CategoryID from(final UUID anId) {
-        return new CategoryID(anId.toString().toLowerCase());
+        return new CategoryID(anId.getMostSignificantBits(), anId.getLeastSignificantBits());
+    }
+
+    public Optional<UUID> toUUID() {
+        return this.raw == null ? Optional.of(new UUID(this.mostSigBits, this.leastSigBits)) : Optional.empty();
     }
 
     @Override
     public String getValue() {
-        return value;
+        var aValue = this.value;
+
+        if (aValue == null) {
+            aValue = new UUID(this.mostSigBits, this.leastSigBits).toString();
+            this.value = aValue;
+        }
+
+        return aValue;
     }
 
     @Override
@@ -35,11 +71,53 @@ public class CategoryID extends Identifier {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         final CategoryID that = (CategoryID) o;
-        return Objects.equals(value, that.value);
+        return mostSigBits == that.mostSigBits
+                && leastSigBits == that.leastSigBits
+                && Objects.equals(raw, that.raw);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(value);
+        if (this.raw != null) {
+            return this.raw.hashCode();
+        }
+
+        final var bits = this.mostSigBits ^ this.leastSigBits;
+        return (int) (bits >> 32) ^ (int) bits;
+    }
+
+    private static boolean isCanonical(final String aValue) {
+        if (aValue.length() != UUID_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < UUID_LENGTH; i++) {
+            final var isDash = i == 8 || i == 13 || i == 18 || i == 23;
+
+            if (isDash ? aValue.charAt(i) != '-' : hexDigit(aValue.charAt(i)) < 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long parseHex(final String aValue, final int from, final int to) {
+        var result = 0L;
+
+        for (int i = from; i < to; i++) {
+            if (aValue.charAt(i) != '-') {
+                result = (result << 4) | hexDigit(aValue.charAt(i));
+            }
+        }
+
+        return result;
+    }
+
+    private static int hexDigit(final char aChar) {
+        if (aChar >= '0' && aChar <= '9') return aChar - '0';
+        if (aChar >= 'a' && aChar <= 'f') return aChar - 'a' + 10;
+        if (aChar >= 'A' && aChar <= 'F') return aChar - 'A' + 10;
+        return -1;
     }
 }
@@ -0,0 +1,24 @@
+package com.catalog.domain.exceptions;
+
+import com.catalog.domain.AggregateRoot;
+import com.catalog.domain.Identifier;
+import com.catalog.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class PreconditionFailedException extends DomainException {
+    protected PreconditionFailedException(String aMessage, List<Error> anErrors) {
+        super(aMessage, anErrors);
+    }
+
+    public static PreconditionFailedException with(
+            final Class<? extends AggregateRoot<?>> anAggregate,
+            final Identifier id
+    ) {
+        final var anError = "%s with ID %s was modified concurrently"
+                .formatted(anAggregate.getSimpleName(), id.getValue());
+
+        return new PreconditionFailedException(anError, Collections.emptyList());
+    }
+}
@@ -8,14 +8,18 @@ import com.catalog.domain.validation.ValidationHandler;
 import com.catalog.domain.validation.handler.Notification;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 
 public class Genre extends AggregateRoot<GenreID> {
     private String name;
     private boolean active;
-    private List<CategoryID> categories;
+    // insertion ordered for stable output, with O(1) add, remove and contains
+    private LinkedHashSet<CategoryID> categories;
+    // read-only snapshot handed out by getCategories(), rebuilt after a membership change
+    private List<CategoryID> categoriesView;
     private Instant createdAt;
     private Instant updatedAt;
     private Instant deletedAt;
@@ -32,7 +36,7 @@ public class Genre extends AggregateRoot<GenreID> {
         super(anId);
         this.name = aName;
         this.active = isActive;
-        this.categories = categories;
+        this.categories = categoriesOf(categories);
         this.createdAt = aCreatedAt;
         this.updatedAt = aUpdatedAt;
         this.deletedAt = aDeletedAt;
@@ -45,7 +49,7 @@ public class Genre extends AggregateRoot<GenreID> {
         final var now = InstantUtils.now();
         final var deletedAt = isActive ? null : now;
 
-        return new Genre(anId, aName, isActive, new ArrayList<>(), now, now, deletedAt);
+        return new Genre(anId, aName, isActive, List.of(), now, now, deletedAt);
     }
 
     public static Genre with(
@@ -67,7 +71,7 @@ public class Genre extends AggregateRoot<GenreID> {
                 aGenre.getId(),
                 aGenre.getName(),
                 aGenre.isActive(),
-                new ArrayList<>(aGenre.getCategories()),
+                aGenre.getCategories(),
                 aGenre.getCreatedAt(),
                 aGenre.getUpdatedAt(),
                 aGenre.getDeletedAt()
@@ -88,7 +92,8 @@ public class Genre extends AggregateRoot<GenreID> {
             deactivate();
         }
 
-        this.categories = new ArrayList<>(categories != null ? categories : Collections.emptyList());
+        this.categories = categoriesOf(categories);
+        this.categoriesView = null;
         this.updatedAt = InstantUtils.now();
         selfValidate();
 
@@ -119,7 +124,18 @@ public class Genre extends AggregateRoot<GenreID> {
     }
 
     public List<CategoryID> getCategories() {
-        return Collections.unmodifiableList(categories);
+        var aView = this.categoriesView;
+
+        if (aView == null) {
+            aView = List.copyOf(this.categories);
+            this.categoriesView = aView;
+        }
+
+        return aView;
+    }
+
+    public boolean containsCategory(final CategoryID aCategoryID) {
+        return aCategoryID != null && this.categories.contains(aCategoryID);
     }
 
     public Instant getCreatedAt() {
@@ -144,22 +160,62 @@ public class Genre extends AggregateRoot<GenreID> {
     }
 
     public Genre addCategory(final CategoryID aCategoryID) {
-        if (aCategoryID == null) {
-                return this;
+        if (aCategoryID == null || !this.categories.add(aCategoryID)) {
+            return this;
         }
 
-        this.categories.add(aCategoryID);
-        this.updatedAt = InstantUtils.now();
-        return this;
+        return categoriesChanged();
+    }
+
+    public Genre addCategories(final Collection<CategoryID> someCategoryIDs) {
+        if (someCategoryIDs == null) {
+            return this;
+        }
+
+        var changed = false;
+
+        for (final var aCategoryID : someCategoryIDs) {
+            changed |= aCategoryID != null && this.categories.add(aCategoryID);
+        }
+
+        return changed ? categoriesChanged() : this;
     }
 
     public Genre removeCategory(final CategoryID aCategoryID) {
-        if (aCategoryID == null) {
+        if (aCategoryID == null || !this.categories.remove(aCategoryID)) {
             return this;
         }
 
-        this.categories.remove(aCategoryID);
+        return categoriesChanged();
+    }
+
+    public Genre removeCategories(final Collection<CategoryID> someCategoryIDs) {
+        if (someCategoryIDs == null) {
+            return this;
+        }
+
+        var changed = false;
+
+        for (final var aCategoryID : someCategoryIDs) {
+            changed |= aCategoryID != null && this.categories.remove(aCategoryID);
+        }
+
+        return changed ? categoriesChanged() : this;
+    }
+
+    private Genre categoriesChanged() {
+        this.categoriesView = null;
         this.updatedAt = InstantUtils.now();
         return this;
     }
+
+    private static LinkedHashSet<CategoryID> categoriesOf(final Collection<CategoryID> someCategoryIDs) {
+        final var result = new LinkedHashSet<CategoryID>();
+
+        if (someCategoryIDs != null) {
+            someCategoryIDs.stream().filter(Objects::nonNull).forEach(result::add);
+        }
+
+        return result;
+    }
 }
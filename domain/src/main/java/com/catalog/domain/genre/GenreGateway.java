@@ -1,8 +1,11 @@
 package com.catalog.domain.genre;
 
+import com.catalog.domain.category.CategoryID;
 import com.catalog.domain.pagination.Pagination;
 import com.catalog.domain.pagination.SearchQuery;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface GenreGateway {
@@ -15,4 +18,12 @@ public interface GenreGateway {
     Genre update(Genre aGenre);
 
     Pagination<Genre> findAll(SearchQuery aQuery);
+
+    List<GenreID> findIdsByCategory(CategoryID aCategoryId);
+
+    void removeCategory(CategoryID aCategoryId, Collection<GenreID> someGenreIds);
+
+    List<GenreID> findIdsByCategories(Collection<CategoryID> someCategoryIds);
+
+    void removeCategories(Collection<CategoryID> someCategoryIds, Collection<GenreID> someGenreIds);
 }
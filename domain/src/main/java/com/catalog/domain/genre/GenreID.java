@@ -1,6 +1,7 @@
 package com.catalog.domain.genre;
 
 import com.catalog.domain.Identifier;
+import com.catalog.domain.utils.IdUtils;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -14,7 +15,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID unique() {
-        return GenreID.from(UUID.randomUUID());
+        return GenreID.from(IdUtils.uuid());
     }
 
     public static GenreID from(final String anId) {
@@ -22,7 +23,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID from(final UUID anId) {
-        return new GenreID(anId.toString().toLowerCase());
+        return new GenreID(anId.toString());
     }
 
     @Override
@@ -7,11 +7,30 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String nextCursor,
+        TotalType totalType,
+        boolean hasNext
 ) {
+    public static final long UNKNOWN_TOTAL = -1;
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null, TotalType.EXACT, (long) (currentPage + 1) * perPage < total);
+    }
+
+    public Pagination(
+            final int currentPage,
+            final int perPage,
+            final long total,
+            final List<T> items,
+            final String nextCursor
+    ) {
+        this(currentPage, perPage, total, items, nextCursor, TotalType.EXACT, nextCursor != null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = this.items.stream().map(mapper).toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor(), totalType(), hasNext());
     }
 }
@@ -0,0 +1,23 @@
+package com.catalog.domain.pagination;
+
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum SearchMode {
+    LIKE,
+    FULLTEXT,
+    INDEX;
+
+    public static SearchMode of(final String aMode) {
+        if (aMode == null || aMode.isBlank()) {
+            return null;
+        }
+
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(aMode))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'searchMode' must be one of like, fulltext or index")));
+    }
+}
@@ -5,6 +5,45 @@ public record SearchQuery(
         int perPage,
         String terms,
         String sort,
-        String direction
+        String direction,
+        String cursor,
+        TotalType totalType,
+        SearchMode searchMode
 ) {
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, TotalType.EXACT);
+    }
+
+    public SearchQuery(
+            final int page,
+            final int perPage,
+            final String terms,
+            final String sort,
+            final String direction,
+            final String cursor,
+            final TotalType totalType
+    ) {
+        this(page, perPage, terms, sort, direction, cursor, totalType, null);
+    }
+
+    public boolean isCursor() {
+        return cursor != null;
+    }
 }
@@ -0,0 +1,19 @@
+package com.catalog.domain.pagination;
+
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+
+import java.util.Arrays;
+
+public enum TotalType {
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static TotalType of(final String aType) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(aType))
+                .findFirst()
+                .orElseThrow(() -> DomainException.with(new Error("'total' must be one of exact, estimated or none")));
+    }
+}
@@ -0,0 +1,33 @@
+package com.catalog.domain.utils;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+public final class IdUtils {
+    private static volatile Supplier<UUID> generator = IdUtils::timeOrdered;
+
+    private IdUtils() {}
+
+    public static UUID uuid() {
+        return generator.get();
+    }
+
+    public static void useGenerator(final Supplier<UUID> aGenerator) {
+        generator = Objects.requireNonNull(aGenerator);
+    }
+
+    public static UUID timeOrdered() {
+        return timeOrdered(System.currentTimeMillis(), ThreadLocalRandom.current());
+    }
+
+    // UUIDv7 layout: 48-bit unix millis, version, 12 + 62 random bits, so new ids sort after older ones
+    public static UUID timeOrdered(final long anEpochMilli, final RandomGenerator random) {
+        final var mostSigBits = (anEpochMilli << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+        final var leastSigBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
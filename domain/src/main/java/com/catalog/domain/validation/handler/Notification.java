@@ -6,6 +6,7 @@ import com.catalog.domain.validation.ValidationHandler;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 
 public class Notification implements ValidationHandler {
     private final List<Error> errors;
@@ -52,6 +53,19 @@ public class Notification implements ValidationHandler {
         return this;
     }
 
+    // for aggregates that validate themselves on construction, returns null when they throw
+    public <T> T validate(final Supplier<T> aValidation) {
+        try {
+            return aValidation.get();
+        } catch (final DomainException ex) {
+            this.errors.addAll(ex.getErrors());
+        } catch (final Throwable ex) {
+            this.errors.add(new Error(ex.getMessage()));
+        }
+
+        return null;
+    }
+
     @Override
     public List<Error> getErrors() {
         return this.errors;
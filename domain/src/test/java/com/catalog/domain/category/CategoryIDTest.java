@@ -0,0 +1,55 @@
+package com.catalog.domain.category;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class CategoryIDTest {
+    @Test
+    public void givenACanonicalUuidString_whenCallsFrom_thenRoundTripAndEqualTheUuidForm() {
+        final var expectedValue = "0189c3a2-7b1e-7c4d-9f00-12ab34cd56ef";
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from(UUID.fromString(expectedValue)), actualId);
+        Assertions.assertEquals(CategoryID.from(UUID.fromString(expectedValue)).hashCode(), actualId.hashCode());
+        Assertions.assertEquals(UUID.fromString(expectedValue), actualId.toUUID().get());
+    }
+
+    @Test
+    public void givenAnUppercaseUuidString_whenCallsFrom_thenEqualTheLowercaseForm() {
+        final var actualId = CategoryID.from("0189C3A2-7B1E-7C4D-9F00-12AB34CD56EF");
+
+        Assertions.assertEquals(CategoryID.from("0189c3a2-7b1e-7c4d-9f00-12ab34cd56ef"), actualId);
+        Assertions.assertEquals("0189c3a2-7b1e-7c4d-9f00-12ab34cd56ef", actualId.getValue());
+    }
+
+    @Test
+    public void givenANonUuidString_whenCallsFrom_thenKeepItAsIs() {
+        final var expectedValue = "123";
+
+        final var actualId = CategoryID.from(expectedValue);
+
+        Assertions.assertEquals(expectedValue, actualId.getValue());
+        Assertions.assertEquals(CategoryID.from("123"), actualId);
+        Assertions.assertNotEquals(CategoryID.from("124"), actualId);
+        Assertions.assertTrue(actualId.toUUID().isEmpty());
+    }
+
+    @Test
+    public void givenAMalformedUuidString_whenCallsFrom_thenDoNotTreatItAsUuid() {
+        Assertions.assertTrue(CategoryID.from("0189c3a2-7b1e-7c4d-9f00-12ab34cd56eg").toUUID().isEmpty());
+        Assertions.assertTrue(CategoryID.from("0189c3a2+7b1e-7c4d-9f00-12ab34cd56ef").toUUID().isEmpty());
+        Assertions.assertTrue(CategoryID.from("1-1-1-1-1").toUUID().isEmpty());
+    }
+
+    @Test
+    public void givenAUniqueId_whenCallsGetValue_thenRenderTheCanonicalString() {
+        final var actualId = CategoryID.unique();
+
+        Assertions.assertEquals(actualId.toUUID().get().toString(), actualId.getValue());
+        Assertions.assertSame(actualId.getValue(), actualId.getValue());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 public class GenreTest {
@@ -359,4 +360,48 @@ public class GenreTest {
         Assertions.assertNotNull(actualGenre.getUpdatedAt());
         Assertions.assertNull(actualGenre.getDeletedAt());
     }
+
+    @Test
+    public void givenAGenre_whenCallAddCategoryTwice_shouldKeepASingleEntry() {
+        final var seriesID = CategoryID.from("1");
+
+        final var actualGenre = Genre.newGenre("Action", true).addCategory(seriesID);
+        final var actualUpdatedAt = actualGenre.getUpdatedAt();
+
+        actualGenre.addCategory(CategoryID.from("1"));
+
+        Assertions.assertEquals(List.of(seriesID), actualGenre.getCategories());
+        Assertions.assertTrue(actualGenre.containsCategory(seriesID));
+        Assertions.assertEquals(actualUpdatedAt, actualGenre.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAGenre_whenCallAddCategoriesAndRemoveCategories_shouldKeepInsertionOrder() {
+        final var seriesID = CategoryID.from("1");
+        final var moviesID = CategoryID.from("2");
+        final var documentariesID = CategoryID.from("3");
+
+        final var actualGenre = Genre.newGenre("Action", true);
+        final var actualUpdatedAt = actualGenre.getUpdatedAt();
+
+        actualGenre.addCategories(Arrays.asList(seriesID, moviesID, null, seriesID, documentariesID));
+
+        Assertions.assertEquals(List.of(seriesID, moviesID, documentariesID), actualGenre.getCategories());
+        Assertions.assertTrue(actualUpdatedAt.isBefore(actualGenre.getUpdatedAt()));
+
+        final var afterAddUpdatedAt = actualGenre.getUpdatedAt();
+
+        actualGenre.removeCategories(List.of(moviesID, CategoryID.from("4")));
+
+        Assertions.assertEquals(List.of(seriesID, documentariesID), actualGenre.getCategories());
+        Assertions.assertFalse(actualGenre.containsCategory(moviesID));
+        Assertions.assertTrue(afterAddUpdatedAt.isBefore(actualGenre.getUpdatedAt()));
+
+        final var afterRemoveUpdatedAt = actualGenre.getUpdatedAt();
+
+        actualGenre.removeCategories(List.of(moviesID));
+        actualGenre.addCategories(List.of(seriesID));
+
+        Assertions.assertEquals(afterRemoveUpdatedAt, actualGenre.getUpdatedAt());
+    }
 }
@@ -0,0 +1,67 @@
+package com.catalog.domain.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+public class IdUtilsTest {
+    @AfterEach
+    void restoreGenerator() {
+        IdUtils.useGenerator(IdUtils::timeOrdered);
+    }
+
+    @Test
+    public void givenTheDefaultGenerator_whenCallsUuid_thenReturnVersion7Ids() {
+        final var actualId = IdUtils.uuid();
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertEquals(System.currentTimeMillis(), actualId.getMostSignificantBits() >>> 16, 1_000);
+    }
+
+    @Test
+    public void givenIdsGeneratedInDifferentMillis_whenComparingTheirStrings_thenLaterIdsSortAfter() throws Exception {
+        final var anId = IdUtils.uuid();
+        Thread.sleep(2);
+        final var anotherId = IdUtils.uuid();
+
+        Assertions.assertTrue(anId.toString().compareTo(anotherId.toString()) < 0);
+    }
+
+    @Test
+    public void givenManyIdsInTheSameMillis_whenCallsUuid_thenAllAreUnique() {
+        final var someIds = new HashSet<UUID>();
+
+        for (int i = 0; i < 100_000; i++) {
+            someIds.add(IdUtils.uuid());
+        }
+
+        Assertions.assertEquals(100_000, someIds.size());
+    }
+
+    @Test
+    public void givenACustomGenerator_whenCallsUuid_thenUseIt() {
+        final var expectedId = UUID.fromString("00000000-0000-4000-8000-000000000001");
+
+        IdUtils.useGenerator(() -> expectedId);
+
+        Assertions.assertEquals(expectedId, IdUtils.uuid());
+    }
+
+    @Test
+    public void givenAnInstantAndASeededRandom_whenCallsTimeOrdered_thenEmbedTheInstantDeterministically() {
+        final var anInstant = Instant.parse("2021-03-04T05:06:07.891Z");
+
+        final var actualId = IdUtils.timeOrdered(anInstant.toEpochMilli(), new SplittableRandom(42));
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertEquals(anInstant.toEpochMilli(), actualId.getMostSignificantBits() >>> 16);
+        Assertions.assertEquals(actualId, IdUtils.timeOrdered(anInstant.toEpochMilli(), new SplittableRandom(42)));
+    }
+}
@@ -1,6 +1,10 @@
 package com.catalog.infrastructure.api;
 
 import com.catalog.domain.pagination.Pagination;
+import com.catalog.infrastructure.category.models.BulkCategoryItemResponse;
+import com.catalog.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.catalog.infrastructure.category.models.CategoryBatchRequest;
+import com.catalog.infrastructure.category.models.CategoryBatchResponse;
 import com.catalog.infrastructure.category.models.CategoryResponse;
 import com.catalog.infrastructure.category.models.CategoryListResponse;
 import com.catalog.infrastructure.category.models.CreateCategoryRequest;
@@ -14,6 +18,8 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RequestMapping(value = "categories")
 @Tag(name = "Categories")
 public interface CategoryAPI {
@@ -29,8 +35,60 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Create many categories at once",
+            description = "Every item is validated on its own; the response lists the created `id` or the `errors` of each item by `index`"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Items processed"),
+            @ApiResponse(responseCode = "422", description = "Too many items were sent"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<BulkCategoryItemResponse> bulkCreateCategories(@RequestBody List<CreateCategoryRequest> input);
+
+    @PutMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Update many categories at once",
+            description = "Every item is validated on its own; the response lists the updated `id` or the `errors` of each item by `index`. "
+                    + "Send an item's `ETag` as `if_match` to only update that version"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Items processed"),
+            @ApiResponse(responseCode = "422", description = "Too many items were sent or an `if_match` is invalid"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    List<BulkCategoryItemResponse> bulkUpdateCategories(@RequestBody List<BulkUpdateCategoryRequest> input);
+
+    @DeleteMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_JSON_VALUE
+    )
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "Delete many categories by their identifiers")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfully"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were sent"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    void bulkDeleteCategories(@RequestBody CategoryBatchRequest input);
+
     @GetMapping
-    @Operation(summary = "List all categories paginated")
+    @Operation(
+            summary = "List all categories paginated",
+            description = "Send a `cursor` (empty for the first page, then the returned `next_cursor`) to use keyset pagination instead of `page`. "
+                    + "Use `total=estimated` for a cached count or `total=none` to skip counting and rely on `has_next`. "
+                    + "`searchMode` (like, fulltext or index) overrides the configured search strategy. "
+                    + "`sort` accepts the indexed keys `name`, `createdAt`, `active` and `id`"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List successfully"),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
@@ -41,9 +99,43 @@ public interface CategoryAPI {
             @RequestParam(name = "page", required = false, defaultValue = "0") final int page,
             @RequestParam(name = "perPage", required = false, defaultValue = "10") final int perPage,
             @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction
+            @RequestParam(name = "dir", required = false, defaultValue = "asc") final String direction,
+            @RequestParam(name = "cursor", required = false) final String cursor,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") final String total,
+            @RequestParam(name = "searchMode", required = false) final String searchMode
     );
 
+    @GetMapping(
+            value = "batch",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Get many categories by their identifiers",
+            description = "Items are returned in request order and ids that were not found are listed in `missing`"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were sent"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CategoryBatchResponse getByIds(@RequestParam(name = "ids", required = false, defaultValue = "") List<String> ids);
+
+    @PostMapping(
+            value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Get many categories by their identifiers sent in the body",
+            description = "Same as `GET /categories/batch` for id lists that do not fit in a query string"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Categories retrieved successfully"),
+            @ApiResponse(responseCode = "422", description = "Too many identifiers were sent"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CategoryBatchResponse fetchByIds(@RequestBody CategoryBatchRequest input);
+
     @GetMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
@@ -54,19 +146,49 @@ public interface CategoryAPI {
             @ApiResponse(responseCode = "404", description = "Category was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<CategoryResponse> getById(@PathVariable(name = "id") String id);
 
     @PutMapping(
             value = "{id}",
             produces = MediaType.APPLICATION_JSON_VALUE
     )
-    @Operation(summary = "Update a category by it`s identifier")
+    @Operation(
+            summary = "Update a category by it`s identifier",
+            description = "Send the `ETag` returned by `GET /categories/{id}` as `If-Match` to only update that version"
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "412", description = "Category was modified since the given version"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id, @RequestBody UpdateCategoryRequest input);
+    ResponseEntity<?> updateById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch,
+            @RequestBody UpdateCategoryRequest input
+    );
+
+    @PatchMapping(
+            value = "{id}",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(
+            summary = "Partially update a category by it`s identifier",
+            description = "Fields that are absent or null keep their current value"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Category updated successfully"),
+            @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "412", description = "Category was modified since the given version"),
+            @ApiResponse(responseCode = "422", description = "Unprocessable error"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> patchById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = "If-Match", required = false) String ifMatch,
+            @RequestBody UpdateCategoryRequest input
+    );
 
     @DeleteMapping(
             value = "{id}",
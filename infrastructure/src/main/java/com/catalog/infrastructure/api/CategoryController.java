@@ -1,26 +1,40 @@
 package com.catalog.infrastructure.api;
 
+import com.catalog.application.category.create.BulkCreateCategoriesUseCase;
 import com.catalog.application.category.create.CreateCategoryCommand;
 import com.catalog.application.category.create.CreateCategoryOutput;
 import com.catalog.application.category.create.CreateCategoryUseCase;
+import com.catalog.application.category.delete.BulkDeleteCategoriesUseCase;
 import com.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.catalog.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
 import com.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.catalog.application.category.update.BulkUpdateCategoriesUseCase;
+import com.catalog.application.category.update.PatchCategoryCommand;
+import com.catalog.application.category.update.PatchCategoryUseCase;
 import com.catalog.application.category.update.UpdateCategoryCommand;
 import com.catalog.application.category.update.UpdateCategoryOutput;
 import com.catalog.application.category.update.UpdateCategoryUseCase;
 import com.catalog.domain.pagination.SearchQuery;
 import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchMode;
+import com.catalog.domain.pagination.TotalType;
 import com.catalog.domain.validation.handler.Notification;
+import com.catalog.infrastructure.category.models.BulkCategoryItemResponse;
+import com.catalog.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.catalog.infrastructure.category.models.CategoryBatchRequest;
+import com.catalog.infrastructure.category.models.CategoryBatchResponse;
 import com.catalog.infrastructure.category.models.CategoryResponse;
 import com.catalog.infrastructure.category.models.CategoryListResponse;
 import com.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.catalog.infrastructure.category.presenters.CategoryApiPresenter;
+import com.catalog.infrastructure.utils.ETags;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -29,21 +43,36 @@ public class CategoryController implements CategoryAPI {
     private final CreateCategoryUseCase createCategoryUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final PatchCategoryUseCase patchCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+    private final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+    private final BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase;
+    private final BulkDeleteCategoriesUseCase bulkDeleteCategoriesUseCase;
 
     public CategoryController(
             final CreateCategoryUseCase createCategoryUseCase,
             final GetCategoryByIdUseCase getCategoryByIdUseCase,
             final UpdateCategoryUseCase updateCategoryUseCase,
+            final PatchCategoryUseCase patchCategoryUseCase,
             final DeleteCategoryUseCase deleteCategoryUseCase,
-            final ListCategoriesUseCase listCategoriesUseCase
+            final ListCategoriesUseCase listCategoriesUseCase,
+            final GetCategoriesByIdsUseCase getCategoriesByIdsUseCase,
+            final BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase,
+            final BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase,
+            final BulkDeleteCategoriesUseCase bulkDeleteCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.patchCategoryUseCase = Objects.requireNonNull(patchCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.getCategoriesByIdsUseCase = Objects.requireNonNull(getCategoriesByIdsUseCase);
+        this.bulkCreateCategoriesUseCase = Objects.requireNonNull(bulkCreateCategoriesUseCase);
+        this.bulkUpdateCategoriesUseCase = Objects.requireNonNull(bulkUpdateCategoriesUseCase);
+        this.bulkDeleteCategoriesUseCase = Objects.requireNonNull(bulkDeleteCategoriesUseCase);
     }
 
     @Override
@@ -62,42 +91,123 @@ public class CategoryController implements CategoryAPI {
         return this.createCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
     }
 
+    @Override
+    public List<BulkCategoryItemResponse> bulkCreateCategories(final List<CreateCategoryRequest> input) {
+        final var someCommands = input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true
+                ))
+                .toList();
+
+        return CategoryApiPresenter.presentCreated(this.bulkCreateCategoriesUseCase.execute(someCommands));
+    }
+
+    @Override
+    public List<BulkCategoryItemResponse> bulkUpdateCategories(final List<BulkUpdateCategoryRequest> input) {
+        final var someCommands = input.stream()
+                .map(item -> UpdateCategoryCommand.with(
+                        item.id(),
+                        item.name(),
+                        item.description(),
+                        item.active() != null ? item.active() : true,
+                        ETags.versionOf(item.ifMatch())
+                ))
+                .toList();
+
+        return CategoryApiPresenter.presentUpdated(this.bulkUpdateCategoriesUseCase.execute(someCommands));
+    }
+
+    @Override
+    public void bulkDeleteCategories(final CategoryBatchRequest input) {
+        this.bulkDeleteCategoriesUseCase.execute(input.ids() != null ? input.ids() : List.of());
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String cursor,
+            final String total,
+            final String searchMode
     ) {
+        final var aQuery = new SearchQuery(
+                page,
+                perPage,
+                search,
+                sort,
+                direction,
+                cursor,
+                TotalType.of(total),
+                SearchMode.of(searchMode)
+        );
+
         return listCategoriesUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .execute(aQuery)
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryByIdUseCase.execute(id));
+    public CategoryBatchResponse getByIds(final List<String> ids) {
+        return CategoryApiPresenter.present(this.getCategoriesByIdsUseCase.execute(ids));
+    }
+
+    @Override
+    public CategoryBatchResponse fetchByIds(final CategoryBatchRequest input) {
+        return CategoryApiPresenter.present(this.getCategoriesByIdsUseCase.execute(input.ids()));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<CategoryResponse> getById(final String id) {
+        final var output = this.getCategoryByIdUseCase.execute(id);
+
+        return ResponseEntity.ok()
+                .eTag(ETags.of(output.version()))
+                .body(CategoryApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var aCommand = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                ETags.versionOf(ifMatch)
         );
 
-        final Function<Notification, ResponseEntity<?>> onError = ResponseEntity.unprocessableEntity()::body;
+        return this.updateCategoryUseCase.execute(aCommand).fold(onUpdateError(), onUpdated());
+    }
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+    @Override
+    public ResponseEntity<?> patchById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
+        final var aCommand = PatchCategoryCommand.with(
+                id,
+                input.name(),
+                input.description(),
+                input.active(),
+                ETags.versionOf(ifMatch)
+        );
 
-        return this.updateCategoryUseCase.execute(aCommand).fold(onError, onSuccess);
+        return this.patchCategoryUseCase.execute(aCommand).fold(onUpdateError(), onUpdated());
     }
 
     @Override
     public void deleteById(final String anId) {
         this.deleteCategoryUseCase.execute(anId);
     }
+
+    private static Function<Notification, ResponseEntity<?>> onUpdateError() {
+        return ResponseEntity.unprocessableEntity()::body;
+    }
+
+    private static Function<UpdateCategoryOutput, ResponseEntity<?>> onUpdated() {
+        return output -> output.version() != null
+                ? ResponseEntity.ok().eTag(ETags.of(output.version())).body(output)
+                : ResponseEntity.ok(output);
+    }
 }
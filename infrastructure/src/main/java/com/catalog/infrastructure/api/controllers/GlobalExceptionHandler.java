@@ -2,6 +2,7 @@ package com.catalog.infrastructure.api.controllers;
 
 import com.catalog.domain.exceptions.DomainException;
 import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
 import com.catalog.domain.validation.Error;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -26,6 +27,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    @ExceptionHandler(value = PreconditionFailedException.class)
+    public ResponseEntity<?> handlePreconditionFailedException(
+            final PreconditionFailedException ex
+    ) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiError.from(ex));
+    }
+
     record ApiError(String message, List<Error> errors) {
         static ApiError from(final DomainException ex) {
             return new ApiError(ex.getMessage(), ex.getErrors());
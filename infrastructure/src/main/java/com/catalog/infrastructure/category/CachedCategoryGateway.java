@@ -0,0 +1,152 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchQuery;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class CachedCategoryGateway implements CategoryGateway {
+    private static final String CACHE_NAME = "categories";
+
+    private final CategoryGateway delegate;
+    private final Cache<CategoryID, Category> cache;
+
+    public CachedCategoryGateway(
+            final CategoryGateway delegate,
+            final Duration aTtl,
+            final long aMaxSize,
+            final MeterRegistry aRegistry
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(aMaxSize)
+                .expireAfterWrite(aTtl)
+                .recordStats()
+                .build();
+
+        if (aRegistry != null) {
+            CaffeineCacheMetrics.monitor(aRegistry, this.cache, CACHE_NAME);
+        }
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        final var result = this.delegate.create(aCategory);
+        this.cache.invalidate(result.getId());
+        return result;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> someCategories) {
+        final var result = this.delegate.createAll(someCategories);
+        this.cache.invalidateAll(idsOf(result));
+        return result;
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        // callers mutate the aggregate they get back, so never hand out the cached instance
+        return Optional.ofNullable(this.cache.get(anId, key -> this.delegate.findById(key).orElse(null)))
+                .map(Category::clone);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> someIds) {
+        return this.cache.getAll(someIds, missing -> {
+                    final var missingIds = new ArrayList<CategoryID>();
+                    missing.forEach(missingIds::add);
+
+                    return this.delegate.findAllByIds(missingIds).stream()
+                            .collect(Collectors.toMap(Category::getId, Function.identity()));
+                })
+                .values().stream()
+                .map(Category::clone)
+                .toList();
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Collection<CategoryID> someIds) {
+        // the cache may be behind a delete from another instance, so always ask the database
+        return this.delegate.existsByIds(someIds);
+    }
+
+    @Override
+    public boolean update(final Category aCategory, final Long anExpectedVersion) {
+        // a failed versioned update means the cached copy is stale as well
+        try {
+            return this.delegate.update(aCategory, anExpectedVersion);
+        } finally {
+            this.cache.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public boolean patch(
+            final Category aCategory,
+            final Set<CategoryAttribute> someAttributes,
+            final Long anExpectedVersion
+    ) {
+        try {
+            return this.delegate.patch(aCategory, someAttributes, anExpectedVersion);
+        } finally {
+            this.cache.invalidate(aCategory.getId());
+        }
+    }
+
+    @Override
+    public Map<CategoryID, DomainException> updateAll(
+            final List<Category> someCategories,
+            final Map<CategoryID, Long> someExpectedVersions
+    ) {
+        try {
+            return this.delegate.updateAll(someCategories, someExpectedVersions);
+        } finally {
+            this.cache.invalidateAll(idsOf(someCategories));
+        }
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID anId) {
+        final var deleted = this.delegate.deleteById(anId);
+        this.cache.invalidate(anId);
+        return deleted;
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryID> someIds) {
+        this.delegate.deleteAllByIds(someIds);
+        this.cache.invalidateAll(someIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.delegate.findAll(aQuery);
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    private static List<CategoryID> idsOf(final List<Category> someCategories) {
+        return someCategories.stream().map(Category::getId).toList();
+    }
+}
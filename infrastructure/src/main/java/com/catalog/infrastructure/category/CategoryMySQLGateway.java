@@ -1,77 +1,512 @@
 package com.catalog.infrastructure.category;
 
 import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
 import com.catalog.domain.category.CategoryGateway;
 import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import com.catalog.domain.pagination.SearchMode;
 import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.domain.pagination.TotalType;
 import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.domain.validation.Error;
 import com.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.catalog.infrastructure.category.search.CategorySearchIndex;
+import com.catalog.infrastructure.utils.Cursor;
 import com.catalog.infrastructure.utils.SpecificationUtils;
+import com.catalog.infrastructure.utils.TotalCache;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.catalog.infrastructure.utils.SpecificationUtils.like;
+import static com.catalog.infrastructure.utils.SpecificationUtils.match;
 
 @Service
 public class CategoryMySQLGateway implements CategoryGateway {
+    private static final String ID = "id";
+    // API sort keys mapped to the index columns that follow removed_at (see V9__Category_sort_indexes_removed_at.sql)
+    private static final Map<String, List<String>> SORTABLE = Map.of(
+            ID, List.of(ID),
+            "name", List.of("name", ID),
+            "createdAt", List.of("createdAt", ID),
+            "created_at", List.of("createdAt", ID),
+            "active", List.of("active", "name", ID)
+    );
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+
     private final CategoryRepository repository;
+    private final CategorySearchIndex searchIndex;
+    private final TotalCache totalCache;
+    private final SearchMode defaultSearchMode;
+    private final boolean fulltextEnabled;
+    private final boolean softDeleteEnabled;
 
-    public CategoryMySQLGateway(final CategoryRepository repository) {
+    public CategoryMySQLGateway(
+            final CategoryRepository repository,
+            final CategorySearchIndex searchIndex,
+            @Value("${categories.estimated-total.ttl:PT30S}") final Duration estimatedTotalTtl,
+            @Value("${categories.estimated-total.max-size:1000}") final int estimatedTotalMaxSize,
+            @Value("${categories.search.default-mode:like}") final String defaultSearchMode,
+            @Value("${categories.search.fulltext-enabled:false}") final boolean fulltextEnabled,
+            @Value("${categories.soft-delete.enabled:false}") final boolean softDeleteEnabled
+    ) {
         this.repository = repository;
+        this.searchIndex = searchIndex;
+        this.totalCache = new TotalCache(estimatedTotalTtl, estimatedTotalMaxSize);
+        this.defaultSearchMode = SearchMode.of(defaultSearchMode);
+        this.fulltextEnabled = fulltextEnabled;
+        this.softDeleteEnabled = softDeleteEnabled;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        return save(CategoryJpaEntity.newEntity(aCategory));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> someCategories) {
+        return saveAll(someCategories.stream().map(CategoryJpaEntity::newEntity).toList());
     }
 
     @Override
     public Optional<Category> findById(final CategoryID anId) {
-        return this.repository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
+        return CategoryJpaEntity.idOf(anId)
+                .flatMap(this.repository::findById)
+                .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
-    public Category update(final Category aCategory) {
-        return this.repository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+    public List<Category> findAllByIds(final Collection<CategoryID> someIds) {
+        final var ids = uuidsOf(someIds);
+        final var result = new ArrayList<Category>(ids.size());
+
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var aChunk = ids.subList(from, Math.min(ids.size(), from + IN_CLAUSE_CHUNK_SIZE));
+            this.repository.findAllById(aChunk).forEach(anEntity -> result.add(anEntity.toAggregate()));
+        }
+
+        return result;
     }
 
     @Override
-    public void deleteById(final CategoryID anId) {
-        final String anIdValue = anId.getValue();
+    public List<CategoryID> existsByIds(final Collection<CategoryID> someIds) {
+        final var ids = uuidsOf(someIds);
+        final var existing = new HashSet<UUID>(ids.size());
 
-        if (this.repository.existsById(anIdValue)) {
-            this.repository.deleteById(anIdValue);
+        // answered from the primary key index alone, no row is loaded
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var aChunk = ids.subList(from, Math.min(ids.size(), from + IN_CLAUSE_CHUNK_SIZE));
+            existing.addAll(this.repository.findExistingIds(aChunk));
         }
+
+        return someIds.stream()
+                .filter(anId -> anId.toUUID().filter(existing::contains).isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    @Override
+    public boolean update(final Category aCategory, final Long anExpectedVersion) {
+        final var someValues = new LinkedHashMap<String, Object>();
+        someValues.put("name", aCategory.getName());
+        someValues.put("description", aCategory.getDescription());
+        someValues.put("active", aCategory.isActive());
+        someValues.put("deletedAt", aCategory.getDeletedAt());
+        someValues.put("updatedAt", aCategory.getUpdatedAt());
+
+        if (!updateIfVersionMatches(aCategory.getId(), anExpectedVersion, someValues)) {
+            return false;
+        }
+
+        this.searchIndex.index(aCategory);
+        return true;
+    }
+
+    @Override
+    public boolean patch(
+            final Category aCategory,
+            final Set<CategoryAttribute> someAttributes,
+            final Long anExpectedVersion
+    ) {
+        if (someAttributes.isEmpty()) {
+            return matchesVersion(aCategory.getId(), anExpectedVersion);
+        }
+
+        final var someValues = new LinkedHashMap<String, Object>();
+
+        if (someAttributes.contains(CategoryAttribute.NAME)) {
+            someValues.put("name", aCategory.getName());
+        }
+
+        if (someAttributes.contains(CategoryAttribute.DESCRIPTION)) {
+            someValues.put("description", aCategory.getDescription());
+        }
+
+        if (someAttributes.contains(CategoryAttribute.ACTIVE)) {
+            someValues.put("active", aCategory.isActive());
+            someValues.put("deletedAt", aCategory.getDeletedAt());
+        }
+
+        someValues.put("updatedAt", aCategory.getUpdatedAt());
+
+        if (!updateIfVersionMatches(aCategory.getId(), anExpectedVersion, someValues)) {
+            return false;
+        }
+
+        if (someAttributes.contains(CategoryAttribute.NAME) && someAttributes.contains(CategoryAttribute.DESCRIPTION)) {
+            this.searchIndex.index(aCategory);
+        } else if (this.searchIndex.isEnabled()
+                && (someAttributes.contains(CategoryAttribute.NAME) || someAttributes.contains(CategoryAttribute.DESCRIPTION))) {
+            // the document needs both text columns and the patch only carried one of them
+            findById(aCategory.getId()).ifPresent(this.searchIndex::index);
+        }
+
+        return true;
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID anId) {
+        final var deleted = CategoryJpaEntity.idOf(anId)
+                .map(anUuid -> this.softDeleteEnabled
+                        ? this.repository.softDeleteAllByIds(List.of(anUuid), InstantUtils.now())
+                        : this.repository.removeById(anUuid))
+                .orElse(0) > 0;
+
+        if (deleted) {
+            this.searchIndex.delete(anId);
+        }
+
+        return deleted;
+    }
+
+    @Override
+    public Map<CategoryID, DomainException> updateAll(
+            final List<Category> someCategories,
+            final Map<CategoryID, Long> someExpectedVersions
+    ) {
+        final var failures = new LinkedHashMap<CategoryID, DomainException>();
+        final var storable = new ArrayList<Category>(someCategories.size());
+
+        for (final var aCategory : someCategories) {
+            if (CategoryJpaEntity.idOf(aCategory.getId()).isPresent()) {
+                storable.add(aCategory);
+            } else {
+                failures.put(aCategory.getId(), NotFoundException.with(Category.class, aCategory.getId()));
+            }
+        }
+
+        final var updated = new ArrayList<Category>(storable.size());
+
+        for (int from = 0; from < storable.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var aChunk = storable.subList(from, Math.min(storable.size(), from + IN_CLAUSE_CHUNK_SIZE));
+            final var someVersions = new HashMap<UUID, Long>();
+
+            for (final var aCategory : aChunk) {
+                final var aVersion = someExpectedVersions.get(aCategory.getId());
+
+                if (aVersion != null) {
+                    someVersions.put(aCategory.getId().toUUID().orElseThrow(), aVersion);
+                }
+            }
+
+            final var counts = this.repository.updateAllIfVersionMatches(
+                    aChunk.stream().map(CategoryJpaEntity::from).toList(),
+                    someVersions
+            );
+
+            final var missed = new ArrayList<CategoryID>();
+
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] == 0) {
+                    missed.add(aChunk.get(i).getId());
+                } else {
+                    updated.add(aChunk.get(i));
+                }
+            }
+
+            // a row left untouched was either changed since the expected version or is not there at all
+            final var existing = missed.isEmpty()
+                    ? Set.<UUID>of()
+                    : Set.copyOf(this.repository.findExistingIds(uuidsOf(missed)));
+
+            for (final var anId : missed) {
+                failures.put(anId, existing.contains(anId.toUUID().orElseThrow())
+                        ? PreconditionFailedException.with(Category.class, anId)
+                        : NotFoundException.with(Category.class, anId));
+            }
+        }
+
+        this.searchIndex.indexAll(updated);
+        return failures;
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryID> someIds) {
+        final var ids = uuidsOf(someIds);
+
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            final var aChunk = ids.subList(from, Math.min(ids.size(), from + IN_CLAUSE_CHUNK_SIZE));
+
+            if (this.softDeleteEnabled) {
+                this.repository.softDeleteAllByIds(aChunk, InstantUtils.now());
+            } else {
+                this.repository.deleteAllByIdInBatch(aChunk);
+            }
+        }
+
+        this.searchIndex.deleteAll(someIds);
     }
 
     @Override
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var specifications = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(str -> SpecificationUtils
-                        .<CategoryJpaEntity>like("name", str)
-                        .or(like("description", str))
-                )
+        final var columns = sortColumnsOf(aQuery);
+        final var terms = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank());
+        final var aSearchMode = searchModeOf(aQuery);
+
+        if (terms.isPresent() && aSearchMode == SearchMode.INDEX) {
+            return findAllByIndex(aQuery, terms.get());
+        }
+
+        final var specifications = terms
+                .map(str -> search(aSearchMode, str))
                 .orElse(null);
 
+        return aQuery.isCursor()
+                ? findAllByCursor(aQuery, columns, specifications)
+                : findAllByPage(aQuery, columns, specifications);
+    }
+
+    // a single UPDATE ... WHERE id = ? AND version = ?, nothing is read unless it matches no row
+    private boolean updateIfVersionMatches(
+            final CategoryID anId,
+            final Long anExpectedVersion,
+            final Map<String, Object> someValues
+    ) {
+        final var anUuid = CategoryJpaEntity.idOf(anId);
+
+        if (anUuid.isEmpty()) {
+            return false;
+        }
+
+        if (this.repository.updateIfVersionMatches(anUuid.get(), anExpectedVersion, someValues) > 0) {
+            return true;
+        }
+
+        if (this.repository.existsById(anUuid.get())) {
+            throw PreconditionFailedException.with(Category.class, anId);
+        }
+
+        return false;
+    }
+
+    // an empty patch writes nothing, it only tells whether the category is still at the expected version
+    private boolean matchesVersion(final CategoryID anId, final Long anExpectedVersion) {
+        final var aVersion = CategoryJpaEntity.idOf(anId).flatMap(this.repository::findVersionById);
+
+        if (aVersion.isPresent() && anExpectedVersion != null && !anExpectedVersion.equals(aVersion.get())) {
+            throw PreconditionFailedException.with(Category.class, anId);
+        }
+
+        return aVersion.isPresent();
+    }
+
+    private Pagination<Category> findAllByPage(
+            final SearchQuery aQuery,
+            final List<String> columns,
+            final Specification<CategoryJpaEntity> specifications
+    ) {
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                Sort.by(Sort.Direction.fromString(aQuery.direction()), columns.toArray(String[]::new))
         );
 
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+        if (aQuery.totalType() == TotalType.EXACT) {
+            final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+
+            return new Pagination<>(
+                    pageResult.getNumber(),
+                    pageResult.getSize(),
+                    pageResult.getTotalElements(),
+                    pageResult.map(CategoryJpaEntity::toAggregate).toList()
+            );
+        }
+
+        final var sliceResult = this.repository.findSlice(Specification.where(specifications), page);
+
+        return new Pagination<>(
+                sliceResult.getNumber(),
+                sliceResult.getSize(),
+                total(aQuery, specifications),
+                sliceResult.map(CategoryJpaEntity::toAggregate).toList(),
+                null,
+                aQuery.totalType(),
+                sliceResult.hasNext()
+        );
+    }
+
+    private Pagination<Category> findAllByIndex(final SearchQuery aQuery, final String terms) {
+        final var hits = this.searchIndex.search(terms, aQuery.page(), aQuery.perPage(), aQuery.totalType());
+
+        final var ids = hits.items().stream().map(UUID::fromString).toList();
+
+        final var entities = this.repository.findAllById(ids).stream()
+                .collect(Collectors.toMap(CategoryJpaEntity::getId, Function.identity()));
+
+        // the index is ranked by relevance, the IN (...) lookup is not
+        final var items = ids.stream()
+                .map(entities::get)
+                .filter(Objects::nonNull)
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
 
         return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+                hits.currentPage(),
+                hits.perPage(),
+                hits.total(),
+                items,
+                null,
+                hits.totalType(),
+                hits.hasNext()
         );
     }
+
+    private Pagination<Category> findAllByCursor(
+            final SearchQuery aQuery,
+            final List<String> columns,
+            final Specification<CategoryJpaEntity> specifications
+    ) {
+        // the seek predicate compares a single column plus the id tie-breaker
+        if (columns.size() > 2) {
+            throw DomainException.with(new Error("'sort' %s is not supported with cursor pagination".formatted(aQuery.sort())));
+        }
+
+        final var sort = columns.get(0);
+
+        final var direction = Sort.Direction.fromString(aQuery.direction());
+
+        final var seek = Optional.of(aQuery.cursor())
+                .filter(str -> !str.isBlank())
+                .map(Cursor::decode)
+                .map(aCursor -> SpecificationUtils.<CategoryJpaEntity>seek(sort, ID, direction, aCursor))
+                .orElse(null);
+
+        final var page = PageRequest.of(0, aQuery.perPage(), Sort.by(direction, columns.toArray(String[]::new)));
+
+        final var sliceResult = this.repository.findSlice(Specification.where(specifications).and(seek), page);
+
+        final var nextCursor = sliceResult.hasNext()
+                ? cursorOf(sliceResult.getContent().get(sliceResult.getNumberOfElements() - 1), sort)
+                : null;
+
+        return new Pagination<>(
+                aQuery.page(),
+                aQuery.perPage(),
+                total(aQuery, specifications),
+                sliceResult.map(CategoryJpaEntity::toAggregate).toList(),
+                nextCursor,
+                aQuery.totalType(),
+                sliceResult.hasNext()
+        );
+    }
+
+    private SearchMode searchModeOf(final SearchQuery aQuery) {
+        final var aMode = Optional.ofNullable(aQuery.searchMode()).orElse(this.defaultSearchMode);
+
+        return switch (aMode) {
+            case FULLTEXT -> this.fulltextEnabled ? aMode : SearchMode.LIKE;
+            case INDEX -> this.searchIndex.isEnabled() && !aQuery.isCursor() ? aMode : SearchMode.LIKE;
+            case LIKE -> aMode;
+        };
+    }
+
+    private static Specification<CategoryJpaEntity> search(final SearchMode aMode, final String terms) {
+        return switch (aMode) {
+            case FULLTEXT -> match("name", "description", terms);
+            case LIKE, INDEX -> SpecificationUtils
+                    .<CategoryJpaEntity>like("name", terms)
+                    .or(like("description", terms));
+        };
+    }
+
+    private long total(final SearchQuery aQuery, final Specification<CategoryJpaEntity> specifications) {
+        return switch (aQuery.totalType()) {
+            case EXACT -> this.repository.count(Specification.where(specifications));
+            case ESTIMATED -> this.totalCache.get(
+                    totalKeyOf(aQuery),
+                    () -> this.repository.count(Specification.where(specifications))
+            );
+            case NONE -> Pagination.UNKNOWN_TOTAL;
+        };
+    }
+
+    // LIKE and FULLTEXT count different rows for the same terms, so the mode actually used is part of the key
+    private String totalKeyOf(final SearchQuery aQuery) {
+        final var terms = Optional.ofNullable(aQuery.terms()).map(String::trim).map(String::toUpperCase).orElse("");
+        return terms.isEmpty() ? terms : searchModeOf(aQuery) + ":" + terms;
+    }
+
+    private Category save(final CategoryJpaEntity anEntity) {
+        final var result = this.repository.save(anEntity).toAggregate();
+        this.searchIndex.index(result);
+        return result;
+    }
+
+    // one transaction, flushed as JDBC batches of hibernate.jdbc.batch_size statements
+    private List<Category> saveAll(final List<CategoryJpaEntity> entities) {
+        final var result = this.repository.saveAll(entities).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+
+        this.searchIndex.indexAll(result);
+        return result;
+    }
+
+    private static List<String> sortColumnsOf(final SearchQuery aQuery) {
+        final var columns = SORTABLE.get(aQuery.sort());
+
+        if (columns == null) {
+            throw DomainException.with(new Error(
+                    "'sort' %s is not supported, use one of active, createdAt, id or name".formatted(aQuery.sort())
+            ));
+        }
+
+        return columns;
+    }
+
+    private static String cursorOf(final CategoryJpaEntity anEntity, final String sort) {
+        final var aValue = PropertyAccessorFactory.forBeanPropertyAccess(anEntity).getPropertyValue(sort);
+        return Cursor.with(aValue, anEntity.getId().toString()).encode();
+    }
+
+    private static List<UUID> uuidsOf(final Collection<CategoryID> someIds) {
+        return someIds.stream()
+                .map(CategoryJpaEntity::idOf)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+    }
 }
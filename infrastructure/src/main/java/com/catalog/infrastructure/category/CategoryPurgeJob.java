@@ -0,0 +1,57 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+@Component
+@ConditionalOnProperty(name = "categories.soft-delete.purge.enabled", havingValue = "true")
+public class CategoryPurgeJob {
+    private final CategoryRepository repository;
+    private final Duration retention;
+    private final int chunkSize;
+
+    public CategoryPurgeJob(
+            final CategoryRepository repository,
+            @Value("${categories.soft-delete.purge.retention:P30D}") final Duration retention,
+            @Value("${categories.soft-delete.purge.chunk-size:1000}") final int chunkSize
+    ) {
+        this.repository = Objects.requireNonNull(repository);
+        this.retention = Objects.requireNonNull(retention);
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(
+            initialDelayString = "${categories.soft-delete.purge.interval:PT1H}",
+            fixedDelayString = "${categories.soft-delete.purge.interval:PT1H}"
+    )
+    public void run() {
+        purge(InstantUtils.now().minus(this.retention));
+    }
+
+    public long purge(final Instant aBefore) {
+        var purged = 0L;
+
+        // every chunk is its own short transaction, so a large backlog never holds locks for long
+        while (true) {
+            final var ids = this.repository.findRemovedIdsBefore(aBefore, this.chunkSize);
+
+            if (ids.isEmpty()) {
+                return purged;
+            }
+
+            purged += this.repository.purgeRemovedByIds(ids, aBefore);
+
+            if (ids.size() < this.chunkSize) {
+                return purged;
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.infrastructure.utils.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+public class CoalescingCategoryGateway implements CategoryGateway {
+    private static final String COLLAPSED_METRIC = "categories.gateway.collapsed";
+
+    private final CategoryGateway delegate;
+    private final SingleFlight<CategoryID, Optional<Category>> findByIdFlights = new SingleFlight<>();
+    private final SingleFlight<SearchQuery, Pagination<Category>> findAllFlights = new SingleFlight<>();
+
+    public CoalescingCategoryGateway(final CategoryGateway delegate, final MeterRegistry aRegistry) {
+        this.delegate = Objects.requireNonNull(delegate);
+
+        if (aRegistry != null) {
+            FunctionCounter.builder(COLLAPSED_METRIC, this.findByIdFlights, SingleFlight::collapsed)
+                    .tag("operation", "findById")
+                    .register(aRegistry);
+            FunctionCounter.builder(COLLAPSED_METRIC, this.findAllFlights, SingleFlight::collapsed)
+                    .tag("operation", "findAll")
+                    .register(aRegistry);
+        }
+    }
+
+    @Override
+    public Category create(final Category aCategory) {
+        return this.delegate.create(aCategory);
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> someCategories) {
+        return this.delegate.createAll(someCategories);
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID anId) {
+        // every caller gets its own copy of the shared result
+        return this.findByIdFlights.execute(anId, () -> this.delegate.findById(anId))
+                .map(Category::clone);
+    }
+
+    @Override
+    public List<Category> findAllByIds(final Collection<CategoryID> someIds) {
+        return this.delegate.findAllByIds(someIds);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Collection<CategoryID> someIds) {
+        return this.delegate.existsByIds(someIds);
+    }
+
+    @Override
+    public boolean update(final Category aCategory, final Long anExpectedVersion) {
+        return this.delegate.update(aCategory, anExpectedVersion);
+    }
+
+    @Override
+    public boolean patch(
+            final Category aCategory,
+            final Set<CategoryAttribute> someAttributes,
+            final Long anExpectedVersion
+    ) {
+        return this.delegate.patch(aCategory, someAttributes, anExpectedVersion);
+    }
+
+    @Override
+    public Map<CategoryID, DomainException> updateAll(
+            final List<Category> someCategories,
+            final Map<CategoryID, Long> someExpectedVersions
+    ) {
+        return this.delegate.updateAll(someCategories, someExpectedVersions);
+    }
+
+    @Override
+    public boolean deleteById(final CategoryID anId) {
+        return this.delegate.deleteById(anId);
+    }
+
+    @Override
+    public void deleteAllByIds(final Collection<CategoryID> someIds) {
+        this.delegate.deleteAllByIds(someIds);
+    }
+
+    @Override
+    public Pagination<Category> findAll(final SearchQuery aQuery) {
+        return this.findAllFlights.execute(aQuery, () -> this.delegate.findAll(aQuery))
+                .map(Category::clone);
+    }
+
+    public long collapsedFindById() {
+        return this.findByIdFlights.collapsed();
+    }
+
+    public long collapsedFindAll() {
+        return this.findAllFlights.collapsed();
+    }
+}
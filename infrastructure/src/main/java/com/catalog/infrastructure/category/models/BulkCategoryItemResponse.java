@@ -0,0 +1,13 @@
+package com.catalog.infrastructure.category.models;
+
+import com.catalog.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkCategoryItemResponse(
+        @JsonProperty("index") int index,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+}
@@ -0,0 +1,12 @@
+package com.catalog.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record BulkUpdateCategoryRequest(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name,
+        @JsonProperty("description") String description,
+        @JsonProperty("is_active") Boolean active,
+        @JsonProperty("if_match") String ifMatch
+) {
+}
@@ -0,0 +1,10 @@
+package com.catalog.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoryBatchRequest(
+        @JsonProperty("ids") List<String> ids
+) {
+}
@@ -0,0 +1,11 @@
+package com.catalog.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record CategoryBatchResponse(
+        @JsonProperty("items") List<CategoryResponse> items,
+        @JsonProperty("missing") List<String> missing
+) {
+}
@@ -3,17 +3,31 @@ package com.catalog.infrastructure.category.persistence;
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryID;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.Where;
+import org.springframework.data.domain.Persistable;
+
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
 
 @Entity
+@DynamicUpdate
+// soft-deleted rows stay in the table until the purge job removes them
+@Where(clause = "removed_at IS NULL")
 @Table(name = "category")
-public class CategoryJpaEntity {
+public class CategoryJpaEntity implements Persistable<UUID> {
     @Id
-    private String id;
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
 
     @Column(name = "name", nullable = false, length = 255)
     private String name;
@@ -33,18 +47,29 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Column(name = "removed_at", columnDefinition = "DATETIME(6)")
+    private Instant removedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @Transient
+    private boolean isNew;
+
     public CategoryJpaEntity() {
 
     }
 
     private CategoryJpaEntity(
-            final String id,
+            final UUID id,
             final String name,
             final String description,
             final boolean active,
             final Instant createdAt,
             final Instant updatedAt,
-            final Instant deletedAt
+            final Instant deletedAt,
+            final Long version
     ) {
         this.id = id;
         this.name = name;
@@ -53,20 +78,34 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     public static CategoryJpaEntity from(final Category aCategory) {
         return new CategoryJpaEntity(
-                aCategory.getId().getValue(),
+                aCategory.getId().toUUID().orElseThrow(),
                 aCategory.getName(),
                 aCategory.getDescription(),
                 aCategory.isActive(),
                 aCategory.getCreatedAt(),
                 aCategory.getUpdatedAt(),
-                aCategory.getDeletedAt()
+                aCategory.getDeletedAt(),
+                aCategory.getVersion()
         );
     }
 
+    // the id is assigned by the domain, so only this factory lets save() persist without a SELECT first
+    public static CategoryJpaEntity newEntity(final Category aCategory) {
+        final var anEntity = from(aCategory);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    // ids are stored as BINARY(16), so anything that does not parse as a UUID cannot be in the table
+    public static Optional<UUID> idOf(final CategoryID anId) {
+        return anId.toUUID();
+    }
+
     public Category toAggregate() {
         return Category.with(
                 CategoryID.from(getId()),
@@ -75,15 +114,28 @@ public class CategoryJpaEntity {
                 isActive(),
                 getCreatedAt(),
                 getUpdatedAt(),
-                getDeletedAt()
+                getDeletedAt(),
+                getVersion()
         );
     }
 
-    public String getId() {
+    @Override
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -134,4 +186,20 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(Instant removedAt) {
+        this.removedAt = removedAt;
+    }
 }
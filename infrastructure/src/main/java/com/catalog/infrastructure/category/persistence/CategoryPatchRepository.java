@@ -0,0 +1,11 @@
+package com.catalog.infrastructure.category.persistence;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public interface CategoryPatchRepository {
+    int updateIfVersionMatches(UUID anId, Long aVersion, Map<String, Object> someValues);
+
+    int[] updateAllIfVersionMatches(List<CategoryJpaEntity> entities, Map<UUID, Long> someVersions);
+}
@@ -0,0 +1,117 @@
+package com.catalog.infrastructure.category.persistence;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.Predicate;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+public class CategoryPatchRepositoryImpl implements CategoryPatchRepository {
+    private static final String ID = "id";
+    private static final String VERSION = "version";
+    private static final String REMOVED_AT = "removedAt";
+    private static final String DELETED_AT = "deletedAt";
+    // the same conditional UPDATE as updateIfVersionMatches, written in SQL so it can be sent as one JDBC batch;
+    // a null version matches any row and deactivating keeps the time the category was first deactivated
+    private static final String UPDATE_IF_VERSION_MATCHES = """
+            UPDATE category
+            SET name = ?, description = ?, active = ?, updated_at = ?,
+                deleted_at = CASE WHEN ? THEN NULL ELSE COALESCE(deleted_at, ?) END,
+                version = version + 1
+            WHERE id = ? AND version = COALESCE(?, version) AND removed_at IS NULL
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int updateIfVersionMatches(final UUID anId, final Long aVersion, final Map<String, Object> someValues) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var update = cb.createCriteriaUpdate(CategoryJpaEntity.class);
+        final var root = update.from(CategoryJpaEntity.class);
+
+        // only the given attributes end up in the SET clause
+        someValues.forEach((anAttribute, aValue) -> {
+            if (DELETED_AT.equals(anAttribute) && aValue != null) {
+                // deactivating an inactive category keeps the time it was first deactivated
+                update.set(root.<Instant>get(DELETED_AT), cb.coalesce(root.<Instant>get(DELETED_AT), (Instant) aValue));
+            } else {
+                update.set(anAttribute, aValue);
+            }
+        });
+
+        update.set(root.<Long>get(VERSION), cb.sum(root.<Long>get(VERSION), 1L));
+
+        final var predicates = new ArrayList<Predicate>();
+        predicates.add(cb.equal(root.get(ID), anId));
+        predicates.add(cb.isNull(root.get(REMOVED_AT)));
+
+        // without an expected version the update is unconditional
+        if (aVersion != null) {
+            predicates.add(cb.equal(root.get(VERSION), aVersion));
+        }
+
+        update.where(predicates.toArray(Predicate[]::new));
+
+        this.entityManager.flush();
+        final var updated = this.entityManager.createQuery(update).executeUpdate();
+        this.entityManager.clear();
+
+        return updated;
+    }
+
+    @Override
+    @Transactional
+    public int[] updateAllIfVersionMatches(final List<CategoryJpaEntity> entities, final Map<UUID, Long> someVersions) {
+        this.entityManager.flush();
+
+        final var updated = this.entityManager.unwrap(Session.class).doReturningWork(aConnection -> {
+            try (final var statement = aConnection.prepareStatement(UPDATE_IF_VERSION_MATCHES)) {
+                for (final var anEntity : entities) {
+                    final var aVersion = someVersions.get(anEntity.getId());
+                    final var aDeletedAt = Objects.requireNonNullElse(anEntity.getDeletedAt(), anEntity.getUpdatedAt());
+
+                    statement.setString(1, anEntity.getName());
+                    statement.setString(2, anEntity.getDescription());
+                    statement.setBoolean(3, anEntity.isActive());
+                    statement.setTimestamp(4, Timestamp.from(anEntity.getUpdatedAt()));
+                    statement.setBoolean(5, anEntity.getDeletedAt() == null);
+                    statement.setTimestamp(6, Timestamp.from(aDeletedAt));
+                    statement.setBytes(7, bytesOf(anEntity.getId()));
+
+                    if (aVersion == null) {
+                        statement.setNull(8, Types.BIGINT);
+                    } else {
+                        statement.setLong(8, aVersion);
+                    }
+
+                    statement.addBatch();
+                }
+
+                return statement.executeBatch();
+            }
+        });
+
+        this.entityManager.clear();
+
+        return updated;
+    }
+
+    private static byte[] bytesOf(final UUID anId) {
+        return ByteBuffer.allocate(16)
+                .putLong(anId.getMostSignificantBits())
+                .putLong(anId.getLeastSignificantBits())
+                .array();
+    }
+}
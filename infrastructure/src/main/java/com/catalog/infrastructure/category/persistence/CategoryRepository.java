@@ -4,7 +4,59 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>{
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface CategoryRepository extends
+        JpaRepository<CategoryJpaEntity, UUID>,
+        JpaSpecificationExecutor<CategoryJpaEntity>,
+        CategorySliceRepository,
+        CategoryPatchRepository {
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
+
+    @Query("SELECT c.id FROM CategoryJpaEntity c WHERE c.id IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> someIds);
+
+    @Query("SELECT c.version FROM CategoryJpaEntity c WHERE c.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID anId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+    int removeById(@Param("id") UUID anId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            UPDATE CategoryJpaEntity c
+            SET c.removedAt = :removedAt,
+                c.updatedAt = :removedAt,
+                c.version = c.version + 1
+            WHERE c.id IN :ids AND c.removedAt IS NULL
+            """)
+    int softDeleteAllByIds(@Param("ids") Collection<UUID> someIds, @Param("removedAt") Instant aRemovedAt);
+
+    // native on purpose: tombstones are hidden from every JPQL query by the entity @Where
+    @Query(
+            value = "SELECT id FROM category WHERE removed_at < :before ORDER BY removed_at LIMIT :limit",
+            nativeQuery = true
+    )
+    List<byte[]> findRemovedIdsBefore(@Param("before") Instant aBefore, @Param("limit") int aLimit);
+
+    @Transactional
+    @Modifying
+    @Query(
+            value = "DELETE FROM category WHERE id IN (:ids) AND removed_at < :before",
+            nativeQuery = true
+    )
+    int purgeRemovedByIds(@Param("ids") Collection<byte[]> someIds, @Param("before") Instant aBefore);
 }
@@ -0,0 +1,9 @@
+package com.catalog.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface CategorySliceRepository {
+    Slice<CategoryJpaEntity> findSlice(Specification<CategoryJpaEntity> whereClause, Pageable page);
+}
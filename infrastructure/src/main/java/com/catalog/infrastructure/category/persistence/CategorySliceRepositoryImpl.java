@@ -0,0 +1,42 @@
+package com.catalog.infrastructure.category.persistence;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+public class CategorySliceRepositoryImpl implements CategorySliceRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<CategoryJpaEntity> findSlice(final Specification<CategoryJpaEntity> whereClause, final Pageable page) {
+        final var cb = this.entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(CategoryJpaEntity.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, cb);
+
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        query.orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        // one extra row tells us whether there is a next slice without a COUNT(*)
+        final var content = this.entityManager.createQuery(query)
+                .setFirstResult((int) page.getOffset())
+                .setMaxResults(page.getPageSize() + 1)
+                .getResultList();
+
+        final var hasNext = content.size() > page.getPageSize();
+
+        return new SliceImpl<>(hasNext ? content.subList(0, page.getPageSize()) : content, page, hasNext);
+    }
+}
@@ -1,11 +1,20 @@
 package com.catalog.infrastructure.category.presenters;
 
+import com.catalog.application.category.create.CreateCategoryOutput;
+import com.catalog.application.category.retrieve.batch.CategoryBatchOutput;
 import com.catalog.application.category.retrieve.get.CategoryOutput;
 import com.catalog.application.category.retrieve.list.CategoryListOutput;
+import com.catalog.application.category.update.UpdateCategoryOutput;
+import com.catalog.domain.validation.handler.Notification;
+import com.catalog.infrastructure.category.models.BulkCategoryItemResponse;
+import com.catalog.infrastructure.category.models.CategoryBatchResponse;
 import com.catalog.infrastructure.category.models.CategoryResponse;
 import com.catalog.infrastructure.category.models.CategoryListResponse;
+import io.vavr.control.Either;
 
+import java.util.List;
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 public interface CategoryApiPresenter {
     Function<CategoryOutput, CategoryResponse> present = output -> new CategoryResponse(
@@ -40,4 +49,29 @@ public interface CategoryApiPresenter {
                 output.deletedAt()
         );
     }
+
+    static CategoryBatchResponse present(final CategoryBatchOutput output) {
+        return new CategoryBatchResponse(
+                output.items().stream().map(CategoryApiPresenter::present).toList(),
+                output.missing()
+        );
+    }
+
+    static List<BulkCategoryItemResponse> presentCreated(final List<Either<Notification, CreateCategoryOutput>> output) {
+        return IntStream.range(0, output.size())
+                .mapToObj(i -> output.get(i).fold(
+                        notification -> new BulkCategoryItemResponse(i, null, notification.getErrors()),
+                        created -> new BulkCategoryItemResponse(i, created.id(), List.of())
+                ))
+                .toList();
+    }
+
+    static List<BulkCategoryItemResponse> presentUpdated(final List<Either<Notification, UpdateCategoryOutput>> output) {
+        return IntStream.range(0, output.size())
+                .mapToObj(i -> output.get(i).fold(
+                        notification -> new BulkCategoryItemResponse(i, null, notification.getErrors()),
+                        updated -> new BulkCategoryItemResponse(i, updated.id(), List.of())
+                ))
+                .toList();
+    }
 }
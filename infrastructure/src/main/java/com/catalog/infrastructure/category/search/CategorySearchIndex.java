@@ -0,0 +1,300 @@
+package com.catalog.infrastructure.category.search;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.TotalType;
+import com.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.catalog.infrastructure.utils.Cursor;
+import com.catalog.infrastructure.utils.SpecificationUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.MMapDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Component
+public class CategorySearchIndex {
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final int REBUILD_BATCH_SIZE = 1_000;
+
+    private final CategoryRepository repository;
+    private final boolean enabled;
+    private final boolean rebuildOnStartup;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public CategorySearchIndex(
+            final CategoryRepository repository,
+            @Value("${categories.search.index.enabled:false}") final boolean enabled,
+            @Value("${categories.search.index.path:${java.io.tmpdir}/catalog/category-index}") final String aPath,
+            @Value("${categories.search.index.rebuild-on-startup:false}") final boolean rebuildOnStartup
+    ) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.analyzer = new StandardAnalyzer();
+
+        if (!enabled) {
+            this.writer = null;
+            this.searcherManager = null;
+            return;
+        }
+
+        try {
+            final var aDirectory = Files.createDirectories(Path.of(aPath));
+            final var aConfig = new IndexWriterConfig(this.analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND);
+
+            this.writer = new IndexWriter(new MMapDirectory(aDirectory), aConfig);
+            this.searcherManager = new SearcherManager(this.writer, null);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (this.enabled && (this.rebuildOnStartup || this.writer.getDocStats().numDocs == 0)) {
+            rebuild();
+        }
+    }
+
+    public void index(final Category aCategory) {
+        indexAll(List.of(aCategory));
+    }
+
+    public void indexAll(final Collection<Category> someCategories) {
+        if (!this.enabled || someCategories.isEmpty()) {
+            return;
+        }
+
+        write(() -> {
+            for (final var aCategory : someCategories) {
+                this.writer.updateDocument(new Term(ID, aCategory.getId().getValue()), documentOf(aCategory));
+            }
+        });
+    }
+
+    public void delete(final CategoryID anId) {
+        deleteAll(List.of(anId));
+    }
+
+    public void deleteAll(final Collection<CategoryID> someIds) {
+        if (!this.enabled || someIds.isEmpty()) {
+            return;
+        }
+
+        write(() -> this.writer.deleteDocuments(someIds.stream()
+                .map(anId -> new Term(ID, anId.getValue()))
+                .toArray(Term[]::new)));
+    }
+
+    // searches see writes through the NRT reader, the commit only bounds what a crash loses before the next rebuild
+    @Scheduled(
+            initialDelayString = "${categories.search.index.commit-interval:PT5S}",
+            fixedDelayString = "${categories.search.index.commit-interval:PT5S}"
+    )
+    public void commit() {
+        if (!this.enabled || !this.writer.hasUncommittedChanges()) {
+            return;
+        }
+
+        try {
+            this.writer.commit();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void rebuild() {
+        if (!this.enabled) {
+            return;
+        }
+
+        write(() -> {
+            this.writer.deleteAll();
+
+            final var page = PageRequest.of(0, REBUILD_BATCH_SIZE, Sort.by(ID));
+            String lastId = null;
+
+            while (true) {
+                final var seek = lastId == null
+                        ? null
+                        : SpecificationUtils.<CategoryJpaEntity>seek(ID, ID, Sort.Direction.ASC, Cursor.with(lastId, lastId));
+
+                final var aSlice = this.repository.findSlice(seek, page);
+
+                for (final var anEntity : aSlice) {
+                    this.writer.addDocument(documentOf(anEntity.toAggregate()));
+                }
+
+                if (!aSlice.hasNext()) {
+                    break;
+                }
+
+                lastId = aSlice.getContent().get(aSlice.getNumberOfElements() - 1).getId().toString();
+            }
+        });
+
+        commit();
+    }
+
+    public Pagination<String> search(final String terms, final int aPage, final int aPerPage, final TotalType aTotalType) {
+        final var aQuery = queryOf(terms);
+        final var offset = aPage * aPerPage;
+
+        if (aQuery == null) {
+            return new Pagination<>(aPage, aPerPage, 0, List.of(), null, aTotalType, false);
+        }
+
+        try {
+            final var searcher = this.searcherManager.acquire();
+
+            try {
+                final var topDocs = searcher.search(aQuery, offset + aPerPage + 1);
+                final var scoreDocs = topDocs.scoreDocs;
+                final var ids = new ArrayList<String>(aPerPage);
+
+                for (int i = offset; i < Math.min(scoreDocs.length, offset + aPerPage); i++) {
+                    ids.add(searcher.doc(scoreDocs[i].doc).get(ID));
+                }
+
+                final var total = switch (aTotalType) {
+                    case EXACT -> searcher.count(aQuery);
+                    case ESTIMATED -> topDocs.totalHits.value;
+                    case NONE -> Pagination.UNKNOWN_TOTAL;
+                };
+
+                return new Pagination<>(aPage, aPerPage, total, ids, null, aTotalType, scoreDocs.length > offset + aPerPage);
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (this.enabled) {
+            commit();
+            this.searcherManager.close();
+            this.writer.close();
+        }
+    }
+
+    private Query queryOf(final String terms) {
+        final var tokens = tokenize(terms);
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        final var aQuery = new BooleanQuery.Builder();
+
+        for (final var token : tokens) {
+            final var aTokenQuery = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NAME, token)), 4f), BooleanClause.Occur.SHOULD)
+                    .add(new BoostQuery(new PrefixQuery(new Term(NAME, token)), 2f), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRIPTION, token)), BooleanClause.Occur.SHOULD)
+                    .add(new PrefixQuery(new Term(DESCRIPTION, token)), BooleanClause.Occur.SHOULD);
+
+            // typo tolerance only kicks in for tokens long enough to not match everything
+            if (token.length() > 3) {
+                final var maxEdits = token.length() > 6 ? 2 : 1;
+
+                aTokenQuery
+                        .add(new FuzzyQuery(new Term(NAME, token), maxEdits), BooleanClause.Occur.SHOULD)
+                        .add(new BoostQuery(new FuzzyQuery(new Term(DESCRIPTION, token), maxEdits), 0.5f), BooleanClause.Occur.SHOULD);
+            }
+
+            aQuery.add(aTokenQuery.build(), BooleanClause.Occur.MUST);
+        }
+
+        return aQuery.build();
+    }
+
+    private List<String> tokenize(final String terms) {
+        final var tokens = new ArrayList<String>();
+
+        try (final var aStream = this.analyzer.tokenStream(NAME, terms)) {
+            final var aTerm = aStream.addAttribute(CharTermAttribute.class);
+            aStream.reset();
+
+            while (aStream.incrementToken()) {
+                tokens.add(aTerm.toString());
+            }
+
+            aStream.end();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return tokens;
+    }
+
+    private static Document documentOf(final Category aCategory) {
+        final var aDocument = new Document();
+        aDocument.add(new StringField(ID, aCategory.getId().getValue(), Field.Store.YES));
+        aDocument.add(new TextField(NAME, aCategory.getName(), Field.Store.NO));
+
+        if (aCategory.getDescription() != null) {
+            aDocument.add(new TextField(DESCRIPTION, aCategory.getDescription(), Field.Store.NO));
+        }
+
+        return aDocument;
+    }
+
+    private void write(final IndexAction anAction) {
+        try {
+            anAction.run();
+            this.searcherManager.maybeRefresh();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexAction {
+        void run() throws IOException;
+    }
+}
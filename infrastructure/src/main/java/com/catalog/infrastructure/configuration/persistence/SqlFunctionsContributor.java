@@ -0,0 +1,18 @@
+package com.catalog.infrastructure.configuration.persistence;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+public class SqlFunctionsContributor implements MetadataBuilderContributor {
+    public static final String FULLTEXT_MATCH = "fulltext_match";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(
+                FULLTEXT_MATCH,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "MATCH (?1, ?2) AGAINST (?3 IN BOOLEAN MODE)")
+        );
+    }
+}
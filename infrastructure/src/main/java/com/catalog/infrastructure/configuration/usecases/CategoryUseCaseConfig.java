@@ -1,25 +1,63 @@
 package com.catalog.infrastructure.configuration.usecases;
 
+import com.catalog.application.category.create.BulkCreateCategoriesUseCase;
 import com.catalog.application.category.create.CreateCategoryUseCase;
+import com.catalog.application.category.create.DefaultBulkCreateCategoriesUseCase;
 import com.catalog.application.category.create.DefaultCreateCategoryUseCase;
+import com.catalog.application.category.delete.BulkDeleteCategoriesUseCase;
+import com.catalog.application.category.delete.DefaultBulkDeleteCategoriesUseCase;
 import com.catalog.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.catalog.application.category.retrieve.batch.DefaultGetCategoriesByIdsUseCase;
+import com.catalog.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
 import com.catalog.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.catalog.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.catalog.application.category.update.BulkUpdateCategoriesUseCase;
+import com.catalog.application.category.update.DefaultBulkUpdateCategoriesUseCase;
+import com.catalog.application.category.update.DefaultPatchCategoryUseCase;
 import com.catalog.application.category.update.DefaultUpdateCategoryUseCase;
+import com.catalog.application.category.update.PatchCategoryUseCase;
 import com.catalog.application.category.update.UpdateCategoryUseCase;
 import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.infrastructure.category.CachedCategoryGateway;
+import com.catalog.infrastructure.category.CoalescingCategoryGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class CategoryUseCaseConfig {
     private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public CategoryUseCaseConfig(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway,
+            final ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${categories.cache.enabled:false}") final boolean cacheEnabled,
+            @Value("${categories.cache.ttl:PT5M}") final Duration cacheTtl,
+            @Value("${categories.cache.max-size:10000}") final long cacheMaxSize,
+            @Value("${categories.coalescing.enabled:false}") final boolean coalescingEnabled
+    ) {
+        this.genreGateway = genreGateway;
+
+        final var aRegistry = meterRegistry.getIfAvailable();
 
-    public CategoryUseCaseConfig(final CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+        // coalescing sits below the cache so concurrent misses share a single database call
+        final var aCoalescedGateway = coalescingEnabled
+                ? new CoalescingCategoryGateway(categoryGateway, aRegistry)
+                : categoryGateway;
+
+        this.categoryGateway = cacheEnabled
+                ? new CachedCategoryGateway(aCoalescedGateway, cacheTtl, cacheMaxSize, aRegistry)
+                : aCoalescedGateway;
     }
 
     @Bean
@@ -32,11 +70,21 @@ public class CategoryUseCaseConfig {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public PatchCategoryUseCase patchCategoryUseCase() {
+        return new DefaultPatchCategoryUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
     }
 
+    @Bean
+    public GetCategoriesByIdsUseCase getCategoriesByIdsUseCase() {
+        return new DefaultGetCategoriesByIdsUseCase(categoryGateway);
+    }
+
     @Bean
     public ListCategoriesUseCase listCategoriesUseCase() {
         return new DefaultListCategoriesUseCase(categoryGateway);
@@ -44,6 +92,21 @@ public class CategoryUseCaseConfig {
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
-        return new DefaultDeleteCategoryUseCase(categoryGateway);
+        return new DefaultDeleteCategoryUseCase(categoryGateway, genreGateway);
+    }
+
+    @Bean
+    public BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase() {
+        return new DefaultBulkCreateCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase() {
+        return new DefaultBulkUpdateCategoriesUseCase(categoryGateway);
+    }
+
+    @Bean
+    public BulkDeleteCategoriesUseCase bulkDeleteCategoriesUseCase() {
+        return new DefaultBulkDeleteCategoriesUseCase(categoryGateway, genreGateway);
     }
 }
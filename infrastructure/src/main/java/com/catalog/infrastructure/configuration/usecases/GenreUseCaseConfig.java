@@ -0,0 +1,31 @@
+package com.catalog.infrastructure.configuration.usecases;
+
+import com.catalog.application.genre.create.CreateGenreUseCase;
+import com.catalog.application.genre.create.DefaultCreateGenreUseCase;
+import com.catalog.application.genre.update.DefaultUpdateGenreUseCase;
+import com.catalog.application.genre.update.UpdateGenreUseCase;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.genre.GenreGateway;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GenreUseCaseConfig {
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public GenreUseCaseConfig(final CategoryGateway categoryGateway, final GenreGateway genreGateway) {
+        this.categoryGateway = categoryGateway;
+        this.genreGateway = genreGateway;
+    }
+
+    @Bean
+    public CreateGenreUseCase createGenreUseCase() {
+        return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
+    }
+
+    @Bean
+    public UpdateGenreUseCase updateGenreUseCase() {
+        return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
+    }
+}
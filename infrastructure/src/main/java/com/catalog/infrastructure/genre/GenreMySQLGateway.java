@@ -0,0 +1,244 @@
+package com.catalog.infrastructure.genre;
+
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreGateway;
+import com.catalog.domain.genre.GenreID;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.domain.validation.Error;
+import com.catalog.infrastructure.genre.persistence.GenreCategoryID;
+import com.catalog.infrastructure.genre.persistence.GenreCategoryJpaEntity;
+import com.catalog.infrastructure.genre.persistence.GenreCategoryRepository;
+import com.catalog.infrastructure.genre.persistence.GenreJpaEntity;
+import com.catalog.infrastructure.genre.persistence.GenreRepository;
+import com.catalog.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class GenreMySQLGateway implements GenreGateway {
+    private static final String ID = "id";
+    private static final Map<String, List<String>> SORTABLE = Map.of(
+            ID, List.of(ID),
+            "name", List.of("name", ID),
+            "createdAt", List.of("createdAt", ID),
+            "created_at", List.of("createdAt", ID)
+    );
+
+    private final GenreRepository genreRepository;
+    private final GenreCategoryRepository genreCategoryRepository;
+
+    public GenreMySQLGateway(
+            final GenreRepository genreRepository,
+            final GenreCategoryRepository genreCategoryRepository
+    ) {
+        this.genreRepository = genreRepository;
+        this.genreCategoryRepository = genreCategoryRepository;
+    }
+
+    @Override
+    @Transactional
+    public Genre create(final Genre aGenre) {
+        final var anEntity = this.genreRepository.save(GenreJpaEntity.newEntity(aGenre));
+        final var categoryIds = categoryIdsOf(aGenre);
+
+        // flushed as JDBC batches of hibernate.jdbc.batch_size inserts
+        this.genreCategoryRepository.saveAll(associationsOf(anEntity.getId(), categoryIds));
+
+        return anEntity.toAggregate(toCategoryIDs(categoryIds));
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(final GenreID anId) {
+        GenreJpaEntity.idOf(anId).ifPresent(this.genreRepository::removeById);
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID anId) {
+        return GenreJpaEntity.idOf(anId)
+                .flatMap(this.genreRepository::findById)
+                .map(anEntity -> anEntity.toAggregate(categoriesOf(anEntity.getId())));
+    }
+
+    @Override
+    @Transactional
+    public Genre update(final Genre aGenre) {
+        final var anEntity = this.genreRepository.save(GenreJpaEntity.from(aGenre));
+        final var aGenreId = anEntity.getId();
+
+        final var expected = categoryIdsOf(aGenre);
+        final var current = Set.copyOf(this.genreCategoryRepository.findCategoryIdsByGenreId(aGenreId));
+
+        // only the associations that changed are written, the rest of the rows are left untouched
+        final var removed = current.stream().filter(anId -> !expected.contains(anId)).toList();
+        final var added = expected.stream().filter(anId -> !current.contains(anId)).toList();
+
+        if (!removed.isEmpty()) {
+            this.genreCategoryRepository.deleteByGenreIdAndCategoryIds(aGenreId, removed);
+        }
+
+        if (!added.isEmpty()) {
+            this.genreCategoryRepository.saveAll(associationsOf(aGenreId, added));
+        }
+
+        return anEntity.toAggregate(toCategoryIDs(expected));
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery aQuery) {
+        final var page = PageRequest.of(
+                aQuery.page(),
+                aQuery.perPage(),
+                Sort.by(Sort.Direction.fromString(aQuery.direction()), sortColumnsOf(aQuery).toArray(String[]::new))
+        );
+
+        final var specifications = Optional.ofNullable(aQuery.terms())
+                .filter(str -> !str.isBlank())
+                .map(str -> SpecificationUtils.<GenreJpaEntity>like("name", str))
+                .orElse(null);
+
+        final var pageResult = this.genreRepository.findAll(Specification.where(specifications), page);
+        final var categories = categoriesOf(pageResult.getContent());
+
+        return new Pagination<>(
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult.getTotalElements(),
+                pageResult.map(anEntity -> anEntity.toAggregate(categories.getOrDefault(anEntity.getId(), List.of())))
+                        .toList()
+        );
+    }
+
+    @Override
+    public List<GenreID> findIdsByCategory(final CategoryID aCategoryId) {
+        return aCategoryId.toUUID()
+                .map(this.genreCategoryRepository::findGenreIdsByCategoryId)
+                .orElse(List.of())
+                .stream()
+                .map(GenreID::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void removeCategory(final CategoryID aCategoryId, final Collection<GenreID> someGenreIds) {
+        final var aCategoryUuid = aCategoryId.toUUID();
+        final var genreIds = someGenreIds.stream()
+                .map(GenreJpaEntity::idOf)
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (aCategoryUuid.isEmpty() || genreIds.isEmpty()) {
+            return;
+        }
+
+        // losing a category is a change of the genre, so its updated_at moves as well
+        this.genreCategoryRepository.deleteByCategoryIdAndGenreIds(aCategoryUuid.get(), genreIds);
+        this.genreRepository.touchAllByIds(genreIds, InstantUtils.now());
+    }
+
+    @Override
+    public List<GenreID> findIdsByCategories(final Collection<CategoryID> someCategoryIds) {
+        final var categoryIds = uuidsOf(someCategoryIds);
+
+        if (categoryIds.isEmpty()) {
+            return List.of();
+        }
+
+        return this.genreCategoryRepository.findGenreIdsByCategoryIds(categoryIds).stream()
+                .map(GenreID::from)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void removeCategories(final Collection<CategoryID> someCategoryIds, final Collection<GenreID> someGenreIds) {
+        final var categoryIds = uuidsOf(someCategoryIds);
+        final var genreIds = someGenreIds.stream()
+                .map(GenreJpaEntity::idOf)
+                .flatMap(Optional::stream)
+                .toList();
+
+        if (categoryIds.isEmpty() || genreIds.isEmpty()) {
+            return;
+        }
+
+        // bounded by both lists, so the caller decides how many rows a single statement may lock
+        this.genreCategoryRepository.deleteByCategoryIdsAndGenreIds(categoryIds, genreIds);
+        this.genreRepository.touchAllByIds(genreIds, InstantUtils.now());
+    }
+
+    private List<CategoryID> categoriesOf(final UUID aGenreId) {
+        return toCategoryIDs(this.genreCategoryRepository.findCategoryIdsByGenreId(aGenreId));
+    }
+
+    // one IN (...) query for the whole page instead of one query per genre
+    private Map<UUID, List<CategoryID>> categoriesOf(final List<GenreJpaEntity> someGenres) {
+        if (someGenres.isEmpty()) {
+            return Map.of();
+        }
+
+        final var genreIds = someGenres.stream().map(GenreJpaEntity::getId).toList();
+
+        return this.genreCategoryRepository.findAllByGenreIds(genreIds).stream()
+                .collect(Collectors.groupingBy(
+                        GenreCategoryID::getGenreId,
+                        Collectors.mapping(anId -> CategoryID.from(anId.getCategoryId()), Collectors.toList())
+                ));
+    }
+
+    private static Set<UUID> categoryIdsOf(final Genre aGenre) {
+        final var ids = new LinkedHashSet<UUID>();
+
+        // ids that are not UUIDs cannot reference a stored category
+        aGenre.getCategories().forEach(anId -> anId.toUUID().ifPresent(ids::add));
+
+        return ids;
+    }
+
+    private static List<GenreCategoryJpaEntity> associationsOf(final UUID aGenreId, final Collection<UUID> someCategoryIds) {
+        return someCategoryIds.stream()
+                .map(aCategoryId -> GenreCategoryJpaEntity.newEntity(aGenreId, aCategoryId))
+                .toList();
+    }
+
+    private static List<UUID> uuidsOf(final Collection<CategoryID> someCategoryIds) {
+        return someCategoryIds.stream()
+                .map(CategoryID::toUUID)
+                .flatMap(Optional::stream)
+                .distinct()
+                .toList();
+    }
+
+    private static List<CategoryID> toCategoryIDs(final Collection<UUID> someIds) {
+        return someIds.stream().map(CategoryID::from).toList();
+    }
+
+    private static List<String> sortColumnsOf(final SearchQuery aQuery) {
+        final var columns = SORTABLE.get(aQuery.sort());
+
+        if (columns == null) {
+            throw DomainException.with(new Error(
+                    "'sort' %s is not supported, use one of createdAt, id or name".formatted(aQuery.sort())
+            ));
+        }
+
+        return columns;
+    }
+}
@@ -0,0 +1,58 @@
+package com.catalog.infrastructure.genre.persistence;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+@Embeddable
+public class GenreCategoryID implements Serializable {
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID genreId;
+
+    @Column(name = "category_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID categoryId;
+
+    public GenreCategoryID() {
+
+    }
+
+    private GenreCategoryID(final UUID genreId, final UUID categoryId) {
+        this.genreId = genreId;
+        this.categoryId = categoryId;
+    }
+
+    public static GenreCategoryID from(final UUID aGenreId, final UUID aCategoryId) {
+        return new GenreCategoryID(aGenreId, aCategoryId);
+    }
+
+    public UUID getGenreId() {
+        return genreId;
+    }
+
+    public void setGenreId(UUID genreId) {
+        this.genreId = genreId;
+    }
+
+    public UUID getCategoryId() {
+        return categoryId;
+    }
+
+    public void setCategoryId(UUID categoryId) {
+        this.categoryId = categoryId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final GenreCategoryID that = (GenreCategoryID) o;
+        return Objects.equals(genreId, that.genreId) && Objects.equals(categoryId, that.categoryId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(genreId, categoryId);
+    }
+}
@@ -0,0 +1,56 @@
+package com.catalog.infrastructure.genre.persistence;
+
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Entity;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.util.UUID;
+
+@Entity
+@Table(name = "genres_categories")
+public class GenreCategoryJpaEntity implements Persistable<GenreCategoryID> {
+    @EmbeddedId
+    private GenreCategoryID id;
+
+    @Transient
+    private boolean isNew;
+
+    public GenreCategoryJpaEntity() {
+
+    }
+
+    private GenreCategoryJpaEntity(final GenreCategoryID id) {
+        this.id = id;
+    }
+
+    // associations are only ever inserted or deleted, so saveAll() can batch the inserts without a SELECT each
+    public static GenreCategoryJpaEntity newEntity(final UUID aGenreId, final UUID aCategoryId) {
+        final var anEntity = new GenreCategoryJpaEntity(GenreCategoryID.from(aGenreId, aCategoryId));
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    @Override
+    public GenreCategoryID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void setId(GenreCategoryID id) {
+        this.id = id;
+    }
+}
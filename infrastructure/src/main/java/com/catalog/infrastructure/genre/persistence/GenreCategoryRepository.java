@@ -0,0 +1,60 @@
+package com.catalog.infrastructure.genre.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface GenreCategoryRepository extends JpaRepository<GenreCategoryJpaEntity, GenreCategoryID> {
+    // associations have no position column, so a genre's categories are always read back in category_id order,
+    // which is creation order for time-ordered ids; both reads walk pk_genres_categories, so the ORDER BY is free
+    @Query("""
+            SELECT gc.id.categoryId FROM GenreCategoryJpaEntity gc
+            WHERE gc.id.genreId = :genreId
+            ORDER BY gc.id.categoryId
+            """)
+    List<UUID> findCategoryIdsByGenreId(@Param("genreId") UUID aGenreId);
+
+    @Query("""
+            SELECT gc.id FROM GenreCategoryJpaEntity gc
+            WHERE gc.id.genreId IN :genreIds
+            ORDER BY gc.id.genreId, gc.id.categoryId
+            """)
+    List<GenreCategoryID> findAllByGenreIds(@Param("genreIds") Collection<UUID> someGenreIds);
+
+    // served by idx_genres_categories_category_id alone
+    @Query("SELECT gc.id.genreId FROM GenreCategoryJpaEntity gc WHERE gc.id.categoryId = :categoryId")
+    List<UUID> findGenreIdsByCategoryId(@Param("categoryId") UUID aCategoryId);
+
+    @Query("SELECT DISTINCT gc.id.genreId FROM GenreCategoryJpaEntity gc WHERE gc.id.categoryId IN :categoryIds")
+    List<UUID> findGenreIdsByCategoryIds(@Param("categoryIds") Collection<UUID> someCategoryIds);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GenreCategoryJpaEntity gc WHERE gc.id.categoryId IN :categoryIds AND gc.id.genreId IN :genreIds")
+    int deleteByCategoryIdsAndGenreIds(
+            @Param("categoryIds") Collection<UUID> someCategoryIds,
+            @Param("genreIds") Collection<UUID> someGenreIds
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GenreCategoryJpaEntity gc WHERE gc.id.categoryId = :categoryId AND gc.id.genreId IN :genreIds")
+    int deleteByCategoryIdAndGenreIds(
+            @Param("categoryId") UUID aCategoryId,
+            @Param("genreIds") Collection<UUID> someGenreIds
+    );
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM GenreCategoryJpaEntity gc WHERE gc.id.genreId = :genreId AND gc.id.categoryId IN :categoryIds")
+    int deleteByGenreIdAndCategoryIds(
+            @Param("genreId") UUID aGenreId,
+            @Param("categoryIds") Collection<UUID> someCategoryIds
+    );
+}
@@ -0,0 +1,163 @@
+package com.catalog.infrastructure.genre.persistence;
+
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreID;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Entity
+@Table(name = "genre")
+public class GenreJpaEntity implements Persistable<UUID> {
+    @Id
+    @Column(name = "id", columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "name", nullable = false, length = 255)
+    private String name;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+
+    @Transient
+    private boolean isNew;
+
+    public GenreJpaEntity() {
+
+    }
+
+    private GenreJpaEntity(
+            final UUID id,
+            final String name,
+            final boolean active,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant deletedAt
+    ) {
+        this.id = id;
+        this.name = name;
+        this.active = active;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.deletedAt = deletedAt;
+    }
+
+    public static GenreJpaEntity from(final Genre aGenre) {
+        return new GenreJpaEntity(
+                UUID.fromString(aGenre.getId().getValue()),
+                aGenre.getName(),
+                aGenre.isActive(),
+                aGenre.getCreatedAt(),
+                aGenre.getUpdatedAt(),
+                aGenre.getDeletedAt()
+        );
+    }
+
+    public static GenreJpaEntity newEntity(final Genre aGenre) {
+        final var anEntity = from(aGenre);
+        anEntity.isNew = true;
+        return anEntity;
+    }
+
+    public static Optional<UUID> idOf(final GenreID anId) {
+        try {
+            return Optional.of(UUID.fromString(anId.getValue()));
+        } catch (final IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    // categories live in genres_categories and are loaded separately
+    public Genre toAggregate(final List<CategoryID> categories) {
+        return Genre.with(
+                GenreID.from(getId()),
+                getName(),
+                isActive(),
+                new ArrayList<>(categories),
+                getCreatedAt(),
+                getUpdatedAt(),
+                getDeletedAt()
+        );
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Instant deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+}
@@ -0,0 +1,30 @@
+package com.catalog.infrastructure.genre.persistence;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, UUID>, JpaSpecificationExecutor<GenreJpaEntity> {
+    Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
+
+    // genres_categories rows go with it through ON DELETE CASCADE
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM GenreJpaEntity g WHERE g.id = :id")
+    int removeById(@Param("id") UUID anId);
+
+    @Transactional
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE GenreJpaEntity g SET g.updatedAt = :updatedAt WHERE g.id IN :ids")
+    int touchAllByIds(@Param("ids") Collection<UUID> someIds, @Param("updatedAt") Instant anUpdatedAt);
+}
@@ -0,0 +1,45 @@
+package com.catalog.infrastructure.utils;
+
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+public record Cursor(String value, String id) {
+    private static final char SEPARATOR = '\n';
+
+    public Cursor {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(id);
+    }
+
+    public static Cursor with(final Object aValue, final String anId) {
+        return new Cursor(String.valueOf(aValue), anId);
+    }
+
+    public static Cursor decode(final String aCursor) {
+        try {
+            final var raw = new String(Base64.getUrlDecoder().decode(aCursor), StandardCharsets.UTF_8);
+            final var separator = raw.lastIndexOf(SEPARATOR);
+
+            if (separator < 0) {
+                throw invalid();
+            }
+
+            return new Cursor(raw.substring(0, separator), raw.substring(separator + 1));
+        } catch (final IllegalArgumentException ex) {
+            throw invalid();
+        }
+    }
+
+    public String encode() {
+        final var raw = value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DomainException invalid() {
+        return DomainException.with(new Error("'cursor' is invalid"));
+    }
+}
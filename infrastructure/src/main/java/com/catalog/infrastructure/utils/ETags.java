@@ -0,0 +1,31 @@
+package com.catalog.infrastructure.utils;
+
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+
+public final class ETags {
+    private ETags() {
+    }
+
+    public static String of(final long aVersion) {
+        return "\"%d\"".formatted(aVersion);
+    }
+
+    public static Long versionOf(final String anIfMatch) {
+        if (anIfMatch == null || anIfMatch.isBlank() || anIfMatch.trim().equals("*")) {
+            return null;
+        }
+
+        var aValue = anIfMatch.trim();
+
+        if (aValue.startsWith("W/")) {
+            aValue = aValue.substring(2);
+        }
+
+        try {
+            return Long.parseLong(aValue.replace("\"", ""));
+        } catch (final NumberFormatException ex) {
+            throw DomainException.with(new Error("'If-Match' is invalid"));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.catalog.infrastructure.utils;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public final class SingleFlight<K, V> {
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder collapsed = new LongAdder();
+
+    public V execute(final K aKey, final Supplier<V> aCall) {
+        final var aFuture = new CompletableFuture<V>();
+        final var anInFlight = this.inFlight.putIfAbsent(aKey, aFuture);
+
+        if (anInFlight != null) {
+            this.collapsed.increment();
+            return await(anInFlight);
+        }
+
+        try {
+            final var result = aCall.get();
+            aFuture.complete(result);
+            return result;
+        } catch (final Throwable ex) {
+            // errors too, or every waiter joined on this flight would block forever
+            aFuture.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlight.remove(aKey, aFuture);
+        }
+    }
+
+    public long collapsed() {
+        return this.collapsed.sum();
+    }
+
+    private static <V> V await(final CompletableFuture<V> aFuture) {
+        try {
+            return aFuture.join();
+        } catch (final CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+
+            throw ex;
+        }
+    }
+}
@@ -1,15 +1,96 @@
 package com.catalog.infrastructure.utils;
 
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.validation.Error;
+import com.catalog.infrastructure.configuration.persistence.SqlFunctionsContributor;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 public final class SpecificationUtils {
+    private static final Pattern BOOLEAN_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), like(term.toUpperCase()));
     }
 
+    public static <T> Specification<T> match(final String aProp, final String anotherProp, final String term) {
+        return (root, query, cb) -> cb.greaterThan(
+                cb.function(
+                        SqlFunctionsContributor.FULLTEXT_MATCH,
+                        Double.class,
+                        root.get(aProp),
+                        root.get(anotherProp),
+                        cb.literal(booleanMode(term))
+                ),
+                0.0
+        );
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> seek(
+            final String prop,
+            final String idProp,
+            final Sort.Direction direction,
+            final Cursor aCursor
+    ) {
+        return (root, query, cb) -> {
+            final Path<Comparable> path = root.get(prop);
+            final Path<Comparable> id = root.get(idProp);
+            final var value = comparable(aCursor.value(), path.getJavaType());
+            final var idValue = comparable(aCursor.id(), id.getJavaType());
+
+            if (direction.isAscending()) {
+                return cb.or(
+                        cb.greaterThan(path, value),
+                        cb.and(cb.equal(path, value), cb.greaterThan(id, idValue))
+                );
+            }
+
+            return cb.or(
+                    cb.lessThan(path, value),
+                    cb.and(cb.equal(path, value), cb.lessThan(id, idValue))
+            );
+        };
+    }
+
     private static String like(String term) {
         return "%" + term + "%";
     }
+
+    private static String booleanMode(final String term) {
+        return Arrays.stream(BOOLEAN_OPERATORS.matcher(term).replaceAll(" ").trim().split("\\s+"))
+                .filter(word -> !word.isEmpty())
+                .map(word -> "+" + word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable comparable(final String value, final Class<?> type) {
+        try {
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+
+            if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+                return Boolean.valueOf(value);
+            }
+
+            if (UUID.class.equals(type)) {
+                return UUID.fromString(value);
+            }
+
+            return value;
+        } catch (final RuntimeException ex) {
+            throw DomainException.with(new Error("'cursor' is invalid"));
+        }
+    }
 }
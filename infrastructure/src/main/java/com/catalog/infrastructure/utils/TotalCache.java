@@ -0,0 +1,42 @@
+package com.catalog.infrastructure.utils;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+public final class TotalCache {
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    public TotalCache(final Duration aTtl, final int aMaxSize) {
+        this.ttlNanos = aTtl.toNanos();
+        this.maxSize = aMaxSize;
+    }
+
+    public long get(final String aKey, final LongSupplier aLoader) {
+        final var now = System.nanoTime();
+        final var anEntry = this.entries.get(aKey);
+
+        if (anEntry != null && now - anEntry.loadedAt() < this.ttlNanos) {
+            return anEntry.total();
+        }
+
+        final var total = aLoader.getAsLong();
+
+        if (this.entries.size() >= this.maxSize) {
+            this.entries.values().removeIf(it -> now - it.loadedAt() >= this.ttlNanos);
+
+            if (this.entries.size() >= this.maxSize) {
+                this.entries.clear();
+            }
+        }
+
+        this.entries.put(aKey, new Entry(total, now));
+        return total;
+    }
+
+    private record Entry(long total, long loadedAt) {
+    }
+}
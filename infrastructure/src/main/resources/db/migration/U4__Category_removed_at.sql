@@ -0,0 +1,2 @@
+DROP INDEX idx_category_removed_at ON category;
+ALTER TABLE category DROP COLUMN removed_at;
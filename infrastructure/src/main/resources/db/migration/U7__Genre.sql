@@ -0,0 +1,2 @@
+DROP TABLE genres_categories;
+DROP TABLE genre;
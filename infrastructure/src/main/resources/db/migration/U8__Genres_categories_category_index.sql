@@ -0,0 +1 @@
+DROP INDEX idx_genres_categories_category_id ON genres_categories;
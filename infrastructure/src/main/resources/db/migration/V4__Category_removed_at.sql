@@ -0,0 +1,2 @@
+ALTER TABLE category ADD COLUMN removed_at DATETIME(6);
+CREATE INDEX idx_category_removed_at ON category (removed_at);
@@ -0,0 +1,15 @@
+CREATE TABLE genre (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6)
+);
+
+CREATE TABLE genres_categories (
+    genre_id BINARY(16) NOT NULL,
+    category_id BINARY(16) NOT NULL,
+    CONSTRAINT pk_genres_categories PRIMARY KEY (genre_id, category_id),
+    CONSTRAINT fk_genres_categories_genre_id FOREIGN KEY (genre_id) REFERENCES genre (id) ON DELETE CASCADE
+);
@@ -0,0 +1 @@
+CREATE INDEX idx_genres_categories_category_id ON genres_categories (category_id, genre_id);
@@ -0,0 +1 @@
+-- H2 has no FULLTEXT index type; searches fall back to LIKE (categories.search.fulltext-enabled=false)
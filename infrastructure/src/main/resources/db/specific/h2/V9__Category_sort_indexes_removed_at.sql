@@ -0,0 +1,8 @@
+DROP INDEX idx_category_name_id;
+DROP INDEX idx_category_created_at_id;
+DROP INDEX idx_category_active_name;
+DROP INDEX idx_category_removed_at;
+
+CREATE INDEX idx_category_removed_at_name_id ON category (removed_at, name, id);
+CREATE INDEX idx_category_removed_at_created_at_id ON category (removed_at, created_at, id);
+CREATE INDEX idx_category_removed_at_active_name_id ON category (removed_at, active, name, id);
@@ -0,0 +1 @@
+ALTER TABLE category DROP INDEX idx_category_fulltext
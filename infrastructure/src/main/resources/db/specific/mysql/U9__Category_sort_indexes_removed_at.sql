@@ -0,0 +1,8 @@
+ALTER TABLE category
+    DROP INDEX idx_category_removed_at_name_id,
+    DROP INDEX idx_category_removed_at_created_at_id,
+    DROP INDEX idx_category_removed_at_active_name_id,
+    ADD INDEX idx_category_name_id (name, id),
+    ADD INDEX idx_category_created_at_id (created_at, id),
+    ADD INDEX idx_category_active_name (active, name),
+    ADD INDEX idx_category_removed_at (removed_at);
@@ -0,0 +1,13 @@
+ALTER TABLE category
+    DROP INDEX idx_category_name_id,
+    DROP INDEX idx_category_created_at_id,
+    ADD COLUMN id_bin BINARY(16) FIRST;
+
+UPDATE category SET id_bin = UUID_TO_BIN(id);
+
+ALTER TABLE category DROP PRIMARY KEY, DROP COLUMN id;
+
+ALTER TABLE category CHANGE COLUMN id_bin id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (id);
+
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
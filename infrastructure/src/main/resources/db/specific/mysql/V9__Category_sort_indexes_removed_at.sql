@@ -0,0 +1,9 @@
+-- every category query filters on removed_at IS NULL, so it leads the sort indexes and the standalone one goes away
+ALTER TABLE category
+    DROP INDEX idx_category_name_id,
+    DROP INDEX idx_category_created_at_id,
+    DROP INDEX idx_category_active_name,
+    DROP INDEX idx_category_removed_at,
+    ADD INDEX idx_category_removed_at_name_id (removed_at, name, id),
+    ADD INDEX idx_category_removed_at_created_at_id (removed_at, created_at, id),
+    ADD INDEX idx_category_removed_at_active_name_id (removed_at, active, name, id);
@@ -0,0 +1,380 @@
+package com.catalog;
+
+import com.catalog.domain.utils.IdUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Bulk-loads synthetic categories and genres with multi-row INSERTs, bypassing JPA. Each chunk draws from
+// its own random stream derived from the seed, so the same settings produce the same rows at any thread count.
+public final class CatalogDataGenerator {
+    private static final String[] VOCABULARY = {
+            "action", "adventure", "animation", "biography", "comedy", "crime", "documentary", "drama",
+            "family", "fantasy", "history", "horror", "music", "mystery", "romance", "science",
+            "fiction", "sport", "thriller", "war", "western", "kids", "series", "originals",
+            "classic", "indie", "international", "award", "winning", "cult", "noir", "musical",
+            "teen", "anime", "reality", "stand", "up", "short", "film", "true",
+            "story", "period", "piece", "space", "opera", "superhero", "martial", "arts",
+            "psychological", "political", "satire", "sitcom", "docuseries", "nature", "travel", "food",
+            "cooking", "lifestyle", "faith", "spirituality", "holiday", "christmas", "zombie", "vampire",
+            "spy", "heist", "legal", "medical", "military", "coming", "of", "age",
+            "dark", "feel", "good", "epic", "mockumentary", "slasher", "disaster", "survival"
+    };
+    private static final double[] ZIPF = zipf(VOCABULARY.length, 1.1);
+    private static final Duration HISTORY = Duration.ofDays(3 * 365);
+    // MySQL rejects a prepared statement with more placeholders than this
+    private static final int MAX_PLACEHOLDERS = 65_535;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private int categories = 1_000;
+    private int genres = 0;
+    private int minFanOut = 1;
+    private int maxFanOut = 10;
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors());
+    private int chunkSize = 1_000;
+    private long seed = 42L;
+
+    private CatalogDataGenerator(final JdbcTemplate aJdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(aJdbcTemplate);
+        // the application pool runs with auto-commit disabled, so every chunk commits on its own
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(
+                Objects.requireNonNull(aJdbcTemplate.getDataSource())
+        ));
+    }
+
+    public static CatalogDataGenerator with(final JdbcTemplate aJdbcTemplate) {
+        return new CatalogDataGenerator(aJdbcTemplate);
+    }
+
+    public CatalogDataGenerator categories(final int aCount) {
+        this.categories = requireNotNegative(aCount, "categories");
+        return this;
+    }
+
+    public CatalogDataGenerator genres(final int aCount, final int aMinFanOut, final int aMaxFanOut) {
+        if (aMinFanOut < 0 || aMaxFanOut < aMinFanOut) {
+            throw new IllegalArgumentException("Invalid genre fan-out: %d..%d".formatted(aMinFanOut, aMaxFanOut));
+        }
+        this.genres = requireNotNegative(aCount, "genres");
+        this.minFanOut = aMinFanOut;
+        this.maxFanOut = aMaxFanOut;
+        return this;
+    }
+
+    public CatalogDataGenerator threads(final int aCount) {
+        this.threads = Math.max(1, aCount);
+        return this;
+    }
+
+    public CatalogDataGenerator chunkSize(final int aSize) {
+        this.chunkSize = Math.max(1, aSize);
+        return this;
+    }
+
+    public CatalogDataGenerator seed(final long aSeed) {
+        this.seed = aSeed;
+        return this;
+    }
+
+    public Summary generate() {
+        final var start = System.nanoTime();
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        final var categoryIds = new long[this.categories * 2];
+        final var genreIds = new long[this.genres * 2];
+        final var associations = new AtomicLong();
+
+        final var executor = Executors.newFixedThreadPool(this.threads);
+
+        try {
+            run(executor, this.categories, 0L, (random, from, to) -> insertCategories(random, from, to, categoryIds, now));
+            run(executor, this.genres, 1L, (random, from, to) -> {
+                insertGenres(random, from, to, genreIds, now);
+                associations.addAndGet(insertGenresCategories(random, from, to, genreIds, categoryIds));
+            });
+        } finally {
+            executor.shutdownNow();
+        }
+
+        return new Summary(this.categories, this.genres, associations.get(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void run(final ExecutorService anExecutor, final int aCount, final long aStream, final Chunk aChunk) {
+        final var futures = new ArrayList<Future<?>>();
+
+        for (int from = 0; from < aCount; from += this.chunkSize) {
+            final var aFrom = from;
+            final var aTo = Math.min(aCount, from + this.chunkSize);
+            final var random = new SplittableRandom(this.seed * 31 + aStream * 1_000_003L + from);
+
+            futures.add(anExecutor.submit(() -> this.transactionTemplate.executeWithoutResult(
+                    status -> aChunk.insert(random, aFrom, aTo)
+            )));
+        }
+
+        for (final var aFuture : futures) {
+            try {
+                aFuture.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            } catch (final ExecutionException ex) {
+                throw new IllegalStateException(ex.getCause());
+            }
+        }
+    }
+
+    private void insertCategories(
+            final SplittableRandom random,
+            final int from,
+            final int to,
+            final long[] someIds,
+            final Instant now
+    ) {
+        final var args = new ArrayList<>((to - from) * 7);
+
+        for (int i = from; i < to; i++) {
+            final var createdAt = now.minusSeconds(random.nextLong(HISTORY.toSeconds()));
+            final var anId = uuid(random, someIds, i, createdAt);
+            final var updatedAt = createdAt.plusSeconds(random.nextLong(Duration.between(createdAt, now).toSeconds() + 1));
+            final var active = random.nextInt(10) != 0;
+
+            args.add(anId);
+            args.add(capitalize(words(random, 1 + random.nextInt(3))));
+            args.add(random.nextInt(10) == 0 ? null : description(random));
+            args.add(active);
+            args.add(Timestamp.from(createdAt));
+            args.add(Timestamp.from(updatedAt));
+            args.add(active ? null : Timestamp.from(updatedAt));
+        }
+
+        insert(
+                "INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at) VALUES ",
+                "(?, ?, ?, ?, ?, ?, ?)",
+                to - from,
+                args
+        );
+    }
+
+    private void insertGenres(
+            final SplittableRandom random,
+            final int from,
+            final int to,
+            final long[] someIds,
+            final Instant now
+    ) {
+        final var args = new ArrayList<>((to - from) * 6);
+
+        for (int i = from; i < to; i++) {
+            final var createdAt = now.minusSeconds(random.nextLong(HISTORY.toSeconds()));
+            final var active = random.nextInt(20) != 0;
+
+            args.add(uuid(random, someIds, i, createdAt));
+            args.add(capitalize(words(random, 1 + random.nextInt(2))));
+            args.add(active);
+            args.add(Timestamp.from(createdAt));
+            args.add(Timestamp.from(createdAt));
+            args.add(active ? null : Timestamp.from(createdAt));
+        }
+
+        insert(
+                "INSERT INTO genre (id, name, active, created_at, updated_at, deleted_at) VALUES ",
+                "(?, ?, ?, ?, ?, ?)",
+                to - from,
+                args
+        );
+    }
+
+    private long insertGenresCategories(
+            final SplittableRandom random,
+            final int from,
+            final int to,
+            final long[] someGenreIds,
+            final long[] someCategoryIds
+    ) {
+        final var total = someCategoryIds.length / 2;
+        final var args = new ArrayList<>();
+        var rows = 0;
+
+        for (int i = from; i < to; i++) {
+            final var fanOut = Math.min(total, this.minFanOut + random.nextInt(this.maxFanOut - this.minFanOut + 1));
+            final var picked = new HashSet<Integer>(fanOut * 2);
+
+            while (picked.size() < fanOut) {
+                picked.add(random.nextInt(total));
+            }
+
+            for (final var aCategory : picked) {
+                args.add(bytes(someGenreIds, i));
+                args.add(bytes(someCategoryIds, aCategory));
+
+                if (++rows % this.chunkSize == 0) {
+                    insert("INSERT INTO genres_categories (genre_id, category_id) VALUES ", "(?, ?)", this.chunkSize, args);
+                    args.clear();
+                }
+            }
+        }
+
+        if (!args.isEmpty()) {
+            insert("INSERT INTO genres_categories (genre_id, category_id) VALUES ", "(?, ?)", args.size() / 2, args);
+        }
+
+        return rows;
+    }
+
+    // a chunk larger than the placeholder limit allows is split into several statements of the same transaction
+    private void insert(final String aStatement, final String aRow, final int rows, final List<Object> args) {
+        if (rows == 0) {
+            return;
+        }
+
+        final var params = args.size() / rows;
+        final var maxRows = MAX_PLACEHOLDERS / params;
+
+        for (int from = 0; from < rows; from += maxRows) {
+            final var count = Math.min(maxRows, rows - from);
+
+            this.jdbcTemplate.update(
+                    aStatement + String.join(",", Collections.nCopies(count, aRow)),
+                    args.subList(from * params, (from + count) * params).toArray()
+            );
+        }
+    }
+
+    // the same UUIDv7 layout the application writes, stamped with the row's created_at so the primary key
+    // order matches a catalog that grew over time; kept as two longs per row so millions of ids stay cheap to hold
+    private static byte[] uuid(final SplittableRandom random, final long[] someIds, final int index, final Instant aCreatedAt) {
+        final var anId = IdUtils.timeOrdered(aCreatedAt.toEpochMilli(), random);
+        someIds[index * 2] = anId.getMostSignificantBits();
+        someIds[index * 2 + 1] = anId.getLeastSignificantBits();
+        return bytes(someIds, index);
+    }
+
+    private static byte[] bytes(final long[] someIds, final int index) {
+        return ByteBuffer.allocate(16).putLong(someIds[index * 2]).putLong(someIds[index * 2 + 1]).array();
+    }
+
+    // a few genre words dominate, as real catalogs do, so searches hit both common and rare terms
+    private static String words(final SplittableRandom random, final int count) {
+        final var aSentence = new StringBuilder();
+
+        for (int i = 0; i < count; i++) {
+            var index = Arrays.binarySearch(ZIPF, random.nextDouble());
+            index = index < 0 ? -index - 1 : index;
+
+            if (i > 0) {
+                aSentence.append(' ');
+            }
+            aSentence.append(VOCABULARY[Math.min(index, VOCABULARY.length - 1)]);
+        }
+
+        return aSentence.toString();
+    }
+
+    // mostly one or two sentences with an occasional long synopsis
+    private static String description(final SplittableRandom random) {
+        final var count = (int) Math.min(500, 5 + Math.round(-Math.log(1 - random.nextDouble()) * 25));
+        final var aDescription = words(random, count);
+        return aDescription.length() > 4000 ? aDescription.substring(0, 4000) : aDescription;
+    }
+
+    private static String capitalize(final String aValue) {
+        return Character.toUpperCase(aValue.charAt(0)) + aValue.substring(1);
+    }
+
+    private static double[] zipf(final int size, final double exponent) {
+        final var cumulative = new double[size];
+        var total = 0.0;
+
+        for (int i = 0; i < size; i++) {
+            total += 1.0 / Math.pow(i + 1, exponent);
+            cumulative[i] = total;
+        }
+
+        for (int i = 0; i < size; i++) {
+            cumulative[i] /= total;
+        }
+
+        return cumulative;
+    }
+
+    private static int requireNotNegative(final int aValue, final String aName) {
+        if (aValue < 0) {
+            throw new IllegalArgumentException("'%s' should not be negative".formatted(aName));
+        }
+        return aValue;
+    }
+
+    // e.g. --url=jdbc:mysql://localhost:3306/adm_videos --categories=5000000 --genres=50000 --fanout=5..50
+    public static void main(final String[] args) {
+        final var options = new HashMap<String, String>();
+
+        for (final var anArg : args) {
+            final var parts = anArg.replaceFirst("^--", "").split("=", 2);
+            options.put(parts[0], parts.length > 1 ? parts[1] : "");
+        }
+
+        final var threads = Integer.parseInt(option(options, "threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        final var fanOut = option(options, "fanout", "1..10").split("\\.\\.");
+
+        try (final var dataSource = new HikariDataSource()) {
+            dataSource.setJdbcUrl(option(options, "url", "jdbc:mysql://localhost:3306/adm_videos"));
+            dataSource.setUsername(option(options, "user", "root"));
+            dataSource.setPassword(option(options, "password", "123456"));
+            dataSource.setMaximumPoolSize(threads);
+
+            final var aSummary = CatalogDataGenerator.with(new JdbcTemplate(dataSource))
+                    .categories(Integer.parseInt(option(options, "categories", "5000000")))
+                    .genres(
+                            Integer.parseInt(option(options, "genres", "0")),
+                            Integer.parseInt(fanOut[0]),
+                            Integer.parseInt(fanOut[fanOut.length - 1])
+                    )
+                    .threads(threads)
+                    .chunkSize(Integer.parseInt(option(options, "chunk", "1000")))
+                    .seed(Long.parseLong(option(options, "seed", "42")))
+                    .generate();
+
+            System.out.printf(
+                    "Generated %d categories, %d genres and %d genre categories in %s%n",
+                    aSummary.categories(), aSummary.genres(), aSummary.associations(), aSummary.elapsed()
+            );
+        }
+    }
+
+    private static String option(final Map<String, String> options, final String aName, final String aDefault) {
+        final var aValue = options.get(aName);
+        return aValue == null || aValue.isBlank() ? aDefault : aValue;
+    }
+
+    @FunctionalInterface
+    private interface Chunk {
+        void insert(SplittableRandom random, int from, int to);
+    }
+
+    public record Summary(int categories, int genres, long associations, Duration elapsed) {
+    }
+}
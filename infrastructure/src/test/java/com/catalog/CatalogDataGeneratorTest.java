@@ -0,0 +1,79 @@
+package com.catalog;
+
+import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.infrastructure.category.CategoryMySQLGateway;
+import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import com.catalog.infrastructure.genre.GenreMySQLGateway;
+import com.catalog.infrastructure.genre.persistence.GenreCategoryRepository;
+import com.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+@IntegrationTest
+public class CatalogDataGeneratorTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private GenreCategoryRepository genreCategoryRepository;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Test
+    public void givenCategoriesAndGenres_whenCallsGenerate_shouldBulkLoadReadableRows() {
+        final var actualSummary = CatalogDataGenerator.with(jdbcTemplate)
+                .categories(2_000)
+                .genres(40, 2, 6)
+                .chunkSize(300)
+                .threads(4)
+                .generate();
+
+        Assertions.assertEquals(2_000, categoryRepository.count());
+        Assertions.assertEquals(40, genreRepository.count());
+        Assertions.assertEquals(actualSummary.associations(), genreCategoryRepository.count());
+        Assertions.assertTrue(actualSummary.associations() >= 80 && actualSummary.associations() <= 240);
+
+        final var actualCategories = categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2_000, actualCategories.total());
+        Assertions.assertEquals(10, actualCategories.items().size());
+
+        actualCategories.items().forEach(aCategory -> {
+            final var anId = UUID.fromString(aCategory.getId().getValue());
+
+            Assertions.assertEquals(7, anId.version());
+            Assertions.assertEquals(aCategory.getCreatedAt().toEpochMilli(), anId.getMostSignificantBits() >>> 16);
+        });
+
+        genreGateway.findAll(new SearchQuery(0, 40, "", "name", "asc")).items().forEach(aGenre -> {
+            Assertions.assertTrue(aGenre.getCategories().size() >= 2 && aGenre.getCategories().size() <= 6);
+            Assertions.assertTrue(categoryGateway.existsByIds(aGenre.getCategories()).isEmpty());
+        });
+    }
+
+    @Test
+    public void givenAChunkAboveThePlaceholderLimit_whenCallsGenerate_shouldSplitItIntoSeveralStatements() {
+        // 7 placeholders per category row, so 10_000 rows would need 70_000 in a single statement
+        CatalogDataGenerator.with(jdbcTemplate)
+                .categories(10_000)
+                .chunkSize(10_000)
+                .threads(1)
+                .generate();
+
+        Assertions.assertEquals(10_000, categoryRepository.count());
+    }
+}
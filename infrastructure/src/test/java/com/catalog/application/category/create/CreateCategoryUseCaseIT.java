@@ -9,6 +9,8 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
+import java.util.UUID;
+
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
@@ -44,7 +46,7 @@ public class CreateCategoryUseCaseIT {
         Assertions.assertEquals(1, categoryRepository.count());
 
         final var actualCategory =
-                categoryRepository.findById(actualOutput.id()).get();
+                categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -96,7 +98,7 @@ public class CreateCategoryUseCaseIT {
         Assertions.assertEquals(1, categoryRepository.count());
 
         final var actualCategory =
-                categoryRepository.findById(actualOutput.id()).get();
+                categoryRepository.findById(UUID.fromString(actualOutput.id())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -4,6 +4,8 @@ import com.catalog.IntegrationTest;
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryGateway;
 import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreGateway;
 import com.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.catalog.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
@@ -13,6 +15,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.Arrays;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -25,6 +28,9 @@ public class DeleteCategoryUseCaseIT {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private GenreGateway genreGateway;
+
     @SpyBean
     private CategoryGateway categoryGateway;
 
@@ -41,6 +47,22 @@ public class DeleteCategoryUseCaseIT {
 
     }
 
+    @Test
+    public void givenACategoryUsedByAGenre_whenCallsDeleteCategory_shouldRemoveItFromTheGenre() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        save(movies, series);
+
+        final var aGenre = genreGateway.create(Genre.newGenre("Action", true)
+                .addCategory(movies.getId())
+                .addCategory(series.getId()));
+
+        useCase.execute(movies.getId().getValue());
+
+        Assertions.assertEquals(List.of(series.getId()), genreGateway.findById(aGenre.getId()).get().getCategories());
+    }
+
     @Test
     public void givenAnInvalidId_whenCallsDeleteCategory_shouldBeOK() {
         final var expectedId = CategoryID.from("123");
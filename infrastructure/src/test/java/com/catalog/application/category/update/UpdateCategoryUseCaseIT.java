@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 
 import java.util.Arrays;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -54,7 +55,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
         final var actualCategory =
-                categoryRepository.findById(expectedId.getValue()).get();
+                categoryRepository.findById(UUID.fromString(expectedId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -88,7 +89,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertNotNull(actualOutput);
         Assertions.assertEquals(expectedErrorMessage, actualOutput.firstError().message());
 
-        verify(categoryGateway, Mockito.times(0)).update(any());
+        verify(categoryGateway, Mockito.times(0)).update(any(), any());
     }
 
 
@@ -116,7 +117,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
 
         final var actualCategory =
-                categoryRepository.findById(expectedId.getValue()).get();
+                categoryRepository.findById(UUID.fromString(expectedId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -147,7 +148,7 @@ public class UpdateCategoryUseCaseIT {
         );
 
         doThrow(new IllegalStateException(expectedErrorMessage))
-                .when(categoryGateway).update(any());
+                .when(categoryGateway).update(any(), any());
 
         final var actualOutput = useCase.execute(aCommand).getLeft();
 
@@ -155,7 +156,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, actualOutput.firstError().message());
 
         final var actualCategory =
-                categoryRepository.findById(expectedId.getValue()).get();
+                categoryRepository.findById(UUID.fromString(expectedId.getValue())).get();
 
         Assertions.assertEquals(aCategory.getName(), actualCategory.getName());
         Assertions.assertEquals(aCategory.getDescription(), actualCategory.getDescription());
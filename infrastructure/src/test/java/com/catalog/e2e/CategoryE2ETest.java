@@ -21,6 +21,8 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.util.UUID;
+
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
@@ -59,7 +61,7 @@ public class CategoryE2ETest {
 
         final var actualId = givenACategory(expectedName, expectedDescription, expectedIsActive);
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -129,7 +131,7 @@ public class CategoryE2ETest {
     }
 
     @Test
-    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByDescriptionDesc() throws Exception {
+    public void asACatalogAdminIShouldBeAbleToSortAllCategoriesByCreatedAtDesc() throws Exception {
         Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
         Assertions.assertEquals(0, categoryRepository.count());
 
@@ -137,15 +139,27 @@ public class CategoryE2ETest {
         givenACategory("Series", "Series for couple", true);
         givenACategory("Documentaries", "Learn about pets", true);
 
-        listCategories(0, 3, "", "description", "desc")
+        listCategories(0, 3, "", "createdAt", "desc")
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.current_page", equalTo(0)))
                 .andExpect(jsonPath("$.per_page", equalTo(3)))
                 .andExpect(jsonPath("$.total", equalTo(3)))
                 .andExpect(jsonPath("$.items", hasSize(3)))
-                .andExpect(jsonPath("$.items[0].name", equalTo("Series")))
-                .andExpect(jsonPath("$.items[1].name", equalTo("Movies")))
-                .andExpect(jsonPath("$.items[2].name", equalTo("Documentaries")));
+                .andExpect(jsonPath("$.items[0].name", equalTo("Documentaries")))
+                .andExpect(jsonPath("$.items[1].name", equalTo("Series")))
+                .andExpect(jsonPath("$.items[2].name", equalTo("Movies")));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldNotBeAbleToSortCategoriesByAnUnindexedColumn() throws Exception {
+        Assertions.assertTrue(MYSQL_CONTAINER.isRunning());
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        givenACategory("Movies", "Movies most watched", true);
+
+        listCategories(0, 3, "", "description", "desc")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo("'sort' description is not supported, use one of active, createdAt, id or name")));
     }
 
     @Test
@@ -203,7 +217,7 @@ public class CategoryE2ETest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -233,7 +247,7 @@ public class CategoryE2ETest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -263,7 +277,7 @@ public class CategoryE2ETest {
         this.mvc.perform(aRequest)
                 .andExpect(status().isOk());
 
-        final var actualCategory = categoryRepository.findById(actualId.getValue()).get();
+        final var actualCategory = categoryRepository.findById(UUID.fromString(actualId.getValue())).get();
 
         Assertions.assertEquals(expectedName, actualCategory.getName());
         Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
@@ -283,7 +297,7 @@ public class CategoryE2ETest {
         this.mvc.perform(delete("/categories/{id}", actualId.getValue()))
                 .andExpect(status().isNoContent());
 
-        Assertions.assertFalse(categoryRepository.existsById(actualId.getValue()));
+        Assertions.assertFalse(categoryRepository.existsById(UUID.fromString(actualId.getValue())));
     }
 
     private ResultActions listCategories(
@@ -1,22 +1,34 @@
 package com.catalog.infrastructure.api;
 
 import com.catalog.ControllerTest;
+import com.catalog.application.category.create.BulkCreateCategoriesUseCase;
 import com.catalog.application.category.create.CreateCategoryOutput;
 import com.catalog.application.category.create.CreateCategoryUseCase;
+import com.catalog.application.category.delete.BulkDeleteCategoriesUseCase;
 import com.catalog.application.category.delete.DeleteCategoryUseCase;
+import com.catalog.application.category.retrieve.batch.CategoryBatchOutput;
+import com.catalog.application.category.retrieve.batch.GetCategoriesByIdsUseCase;
 import com.catalog.application.category.retrieve.get.CategoryOutput;
 import com.catalog.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.catalog.application.category.retrieve.list.CategoryListOutput;
 import com.catalog.application.category.retrieve.list.ListCategoriesUseCase;
+import com.catalog.application.category.update.BulkUpdateCategoriesUseCase;
+import com.catalog.application.category.update.PatchCategoryUseCase;
 import com.catalog.application.category.update.UpdateCategoryOutput;
 import com.catalog.application.category.update.UpdateCategoryUseCase;
 import com.catalog.domain.category.Category;
 import com.catalog.domain.category.CategoryID;
 import com.catalog.domain.exceptions.DomainException;
 import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
 import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.domain.pagination.SearchMode;
+import com.catalog.domain.pagination.TotalType;
 import com.catalog.domain.validation.Error;
 import com.catalog.domain.validation.handler.Notification;
+import com.catalog.infrastructure.category.models.BulkUpdateCategoryRequest;
+import com.catalog.infrastructure.category.models.CategoryBatchRequest;
 import com.catalog.infrastructure.category.models.CreateCategoryRequest;
 import com.catalog.infrastructure.category.models.UpdateCategoryRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -57,12 +69,27 @@ public class CategoryAPITest {
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private PatchCategoryUseCase patchCategoryUseCase;
+
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private GetCategoriesByIdsUseCase getCategoriesByIdsUseCase;
+
+    @MockBean
+    private BulkCreateCategoriesUseCase bulkCreateCategoriesUseCase;
+
+    @MockBean
+    private BulkUpdateCategoriesUseCase bulkUpdateCategoriesUseCase;
+
+    @MockBean
+    private BulkDeleteCategoriesUseCase bulkDeleteCategoriesUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedName = "Filmes";
@@ -399,4 +426,390 @@ public class CategoryAPITest {
                 && Objects.equals(expectedTerms, query.terms())
             ));
     }
+
+    @Test
+    public void givenACursor_whenCallsListCategories_shouldReturnNextCursor() throws Exception {
+        // given
+        final var aCategory = Category.newCategory(
+                "Movies",
+                null,
+                true
+        );
+
+        final var expectedPerPage = 10;
+        final var expectedCursor = "bW92aWVzCjEyMw";
+        final var expectedNextCursor = "c2VyaWVzCjQ1Ng";
+        final var expectedItems = List.of(CategoryListOutput.from(aCategory));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, expectedPerPage, 1, expectedItems, expectedNextCursor));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("cursor", expectedCursor);
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+                .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(expectedCursor, query.cursor())
+                && Objects.equals(expectedPerPage, query.perPage())
+        ));
+    }
+
+    @Test
+    public void givenTotalNone_whenCallsListCategories_shouldReturnHasNextWithoutTotal() throws Exception {
+        // given
+        final var expectedItems = List.of(CategoryListOutput.from(Category.newCategory("Movies", null, true)));
+
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 1, Pagination.UNKNOWN_TOTAL, expectedItems, null, TotalType.NONE, true));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("perPage", "1")
+                .queryParam("total", "none");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(-1)))
+                .andExpect(jsonPath("$.total_type", equalTo("NONE")))
+                .andExpect(jsonPath("$.has_next", equalTo(true)));
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(TotalType.NONE, query.totalType())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidTotal_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'total' must be one of exact, estimated or none";
+
+        // when
+        final var request = get("/categories")
+                .queryParam("total", "approximate");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(listCategoriesUseCase, times(0)).execute(any());
+    }
+
+    @Test
+    public void givenAFulltextSearchMode_whenCallsListCategories_shouldForwardSearchMode() throws Exception {
+        // given
+        when(listCategoriesUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        // when
+        final var request = get("/categories")
+                .queryParam("search", "movies")
+                .queryParam("searchMode", "fulltext");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk());
+
+        verify(listCategoriesUseCase, times(1)).execute(argThat(query ->
+                Objects.equals(SearchMode.FULLTEXT, query.searchMode())
+                && Objects.equals("movies", query.terms())
+        ));
+    }
+
+    @Test
+    public void givenValidIds_whenCallsGetCategoriesBatch_shouldReturnItemsAndMissing() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(new CategoryBatchOutput(
+                        List.of(CategoryOutput.from(series), CategoryOutput.from(movies)),
+                        List.of("123")
+                ));
+
+        // when
+        final var request = get("/categories/batch")
+                .queryParam("ids", series.getId().getValue() + "," + movies.getId().getValue() + ",123");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].id", equalTo(series.getId().getValue())))
+                .andExpect(jsonPath("$.items[1].id", equalTo(movies.getId().getValue())))
+                .andExpect(jsonPath("$.missing[0]", equalTo("123")));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(eq(List.of(
+                series.getId().getValue(),
+                movies.getId().getValue(),
+                "123"
+        )));
+    }
+
+    @Test
+    public void givenValidIdsInTheBody_whenCallsPostCategoriesBatch_shouldReturnItems() throws Exception {
+        // given
+        final var movies = Category.newCategory("Movies", null, true);
+        final var anInput = new CategoryBatchRequest(List.of(movies.getId().getValue()));
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenReturn(new CategoryBatchOutput(List.of(CategoryOutput.from(movies)), List.of()));
+
+        // when
+        final var request = post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(1)))
+                .andExpect(jsonPath("$.items[0].name", equalTo("Movies")))
+                .andExpect(jsonPath("$.missing", hasSize(0)));
+
+        verify(getCategoriesByIdsUseCase, times(1)).execute(eq(List.of(movies.getId().getValue())));
+    }
+
+    @Test
+    public void givenTooManyIds_whenCallsGetCategoriesBatch_shouldReturnUnprocessableEntity() throws Exception {
+        // given
+        final var expectedErrorMessage = "'ids' must not have more than 500 items";
+
+        when(getCategoriesByIdsUseCase.execute(any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var request = get("/categories/batch").queryParam("ids", "1,2");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenValidAndInvalidItems_whenCallsBulkCreateCategories_shouldReturnPerItemResults() throws Exception {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+        final var anInput = List.of(
+                new CreateCategoryRequest("Movies", null, true),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(bulkCreateCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(
+                        Right(CreateCategoryOutput.from("123")),
+                        Left(Notification.create(new Error(expectedErrorMessage)))
+                ));
+
+        // when
+        final var request = post("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].index", equalTo(0)))
+                .andExpect(jsonPath("$[0].id", equalTo("123")))
+                .andExpect(jsonPath("$[0].errors", hasSize(0)))
+                .andExpect(jsonPath("$[1].index", equalTo(1)))
+                .andExpect(jsonPath("$[1].id", nullValue()))
+                .andExpect(jsonPath("$[1].errors[0].message", equalTo(expectedErrorMessage)));
+
+        verify(bulkCreateCategoriesUseCase, times(1)).execute(argThat(cmds ->
+                cmds.size() == 2
+                && Objects.equals("Movies", cmds.get(0).name())
+                && Objects.equals(null, cmds.get(1).name())
+        ));
+    }
+
+    @Test
+    public void givenValidItems_whenCallsBulkUpdateCategories_shouldReturnPerItemResults() throws Exception {
+        // given
+        final var anInput = List.of(new BulkUpdateCategoryRequest("123", "Movies", null, null, "\"2\""));
+
+        when(bulkUpdateCategoriesUseCase.execute(any()))
+                .thenReturn(List.of(Right(UpdateCategoryOutput.from("123"))));
+
+        // when
+        final var request = put("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id", equalTo("123")));
+
+        verify(bulkUpdateCategoriesUseCase, times(1)).execute(argThat(cmds ->
+                Objects.equals("123", cmds.get(0).id())
+                && Objects.equals(true, cmds.get(0).isActive())
+                && Objects.equals(2L, cmds.get(0).expectedVersion())
+        ));
+    }
+
+    @Test
+    public void givenIds_whenCallsBulkDeleteCategories_shouldReturnNoContent() throws Exception {
+        // given
+        final var anInput = new CategoryBatchRequest(List.of("123", "456"));
+
+        doNothing().when(bulkDeleteCategoriesUseCase).execute(any());
+
+        // when
+        final var request = delete("/categories/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(this.mapper.writeValueAsString(anInput));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isNoContent());
+
+        verify(bulkDeleteCategoriesUseCase, times(1)).execute(eq(List.of("123", "456")));
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldReturnVersionAsETag() throws Exception {
+        // given
+        final var aCategory = Category.with(CategoryID.from("123"), "Movies", null, true, InstantUtils.now(), InstantUtils.now(), null, 4);
+
+        when(getCategoryByIdUseCase.execute(any()))
+                .thenReturn(CategoryOutput.from(aCategory));
+
+        // when
+        final var response = this.mvc.perform(get("/categories/{id}", "123"))
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateCategory_shouldForwardExpectedVersionAndReturnNewETag() throws Exception {
+        // given
+        final var aCategory = Category.with(CategoryID.from("123"), "Movies", null, true, InstantUtils.now(), InstantUtils.now(), null, 4);
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(aCategory)));
+
+        // when
+        final var request = put("/categories/{id}", "123")
+                .header("If-Match", "\"3\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCategoryRequest("Movies", null, true)));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""));
+
+        verify(updateCategoryUseCase, times(1))
+                .execute(argThat(cmd -> Objects.equals(3L, cmd.expectedVersion())));
+    }
+
+    @Test
+    public void givenAStaleIfMatchHeader_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        // given
+        final var expectedErrorMessage = "Category with ID 123 was modified concurrently";
+
+        when(updateCategoryUseCase.execute(any()))
+                .thenThrow(PreconditionFailedException.with(Category.class, CategoryID.from("123")));
+
+        // when
+        final var request = put("/categories/{id}", "123")
+                .header("If-Match", "\"1\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(new UpdateCategoryRequest("Movies", null, true)));
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenOnlyIsActive_whenCallsPatchCategory_shouldLeaveOtherFieldsAbsent() throws Exception {
+        // given
+        final var aCategory = Category.with(CategoryID.from("123"), "Movies", null, false, InstantUtils.now(), InstantUtils.now(), InstantUtils.now(), 2);
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Right(UpdateCategoryOutput.from(aCategory)));
+
+        // when
+        final var request = patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"is_active\": false}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(jsonPath("$.id", equalTo("123")));
+
+        verify(patchCategoryUseCase, times(1)).execute(argThat(cmd ->
+                Objects.equals("123", cmd.id())
+                        && Objects.isNull(cmd.name())
+                        && Objects.isNull(cmd.description())
+                        && Objects.equals(false, cmd.isActive())
+                        && Objects.isNull(cmd.expectedVersion())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidName_whenCallsPatchCategory_shouldReturnDomainException() throws Exception {
+        // given
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        when(patchCategoryUseCase.execute(any()))
+                .thenReturn(Left(Notification.create(new Error(expectedErrorMessage))));
+
+        // when
+        final var request = patch("/categories/{id}", "123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \" \"}");
+
+        final var response = this.mvc.perform(request)
+                .andDo(print());
+
+        // then
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.errors[0].message", equalTo(expectedErrorMessage)));
+    }
 }
@@ -0,0 +1,149 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachedCategoryGatewayTest {
+    private CategoryGateway delegate;
+
+    private SimpleMeterRegistry registry;
+
+    private CachedCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        registry = new SimpleMeterRegistry();
+        gateway = new CachedCategoryGateway(delegate, Duration.ofMinutes(5), 100, registry);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdAgain_shouldNotHitDelegate() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+        Assertions.assertEquals("Movies", gateway.findById(expectedId).get().getName());
+        Assertions.assertEquals("Movies", gateway.findById(expectedId).get().getName());
+
+        verify(delegate, times(1)).findById(eq(expectedId));
+        Assertions.assertEquals(1, gateway.stats().hitCount());
+        Assertions.assertEquals(1, gateway.stats().missCount());
+        Assertions.assertEquals(1.0, registry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallerMutatesIt_shouldNotChangeCachedValue() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+
+        gateway.findById(expectedId).get().update("Series", null, false);
+
+        final var actualCategory = gateway.findById(expectedId).get();
+
+        Assertions.assertEquals("Movies", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+        final var anUpdatedCategory = aCategory.clone().update("Series", null, true);
+
+        when(delegate.findById(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory))
+                .thenReturn(Optional.of(anUpdatedCategory));
+        when(delegate.update(any(), any())).thenReturn(true);
+
+        gateway.findById(expectedId);
+        gateway.update(anUpdatedCategory, null);
+
+        Assertions.assertEquals("Series", gateway.findById(expectedId).get().getName());
+        verify(delegate, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    public void givenAStaleCachedCategory_whenUpdateConflicts_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(eq(expectedId))).thenReturn(Optional.of(aCategory));
+        when(delegate.update(any(), any())).thenThrow(PreconditionFailedException.with(Category.class, expectedId));
+
+        gateway.findById(expectedId);
+
+        Assertions.assertThrows(PreconditionFailedException.class, () -> gateway.update(aCategory, 0L));
+
+        gateway.findById(expectedId);
+        verify(delegate, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_shouldInvalidateIt() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(eq(expectedId)))
+                .thenReturn(Optional.of(aCategory))
+                .thenReturn(Optional.empty());
+        when(delegate.deleteById(any())).thenReturn(true);
+
+        gateway.findById(expectedId);
+        gateway.deleteById(expectedId);
+
+        Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+    }
+
+    @Test
+    public void givenAnAbsentCategory_whenCallsFindById_shouldNotCacheTheMiss() {
+        final var expectedId = CategoryID.from("123");
+
+        when(delegate.findById(eq(expectedId))).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+
+        verify(delegate, times(2)).findById(eq(expectedId));
+    }
+
+    @Test
+    public void givenSomeCachedCategories_whenCallsFindAllByIds_shouldOnlyLoadTheMissingOnes() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        when(delegate.findById(eq(movies.getId()))).thenReturn(Optional.of(movies));
+        when(delegate.findAllByIds(any())).thenReturn(List.of(series));
+
+        gateway.findById(movies.getId());
+
+        final var actualResult = gateway.findAllByIds(List.of(movies.getId(), series.getId(), CategoryID.from("123")));
+
+        Assertions.assertEquals(2, actualResult.size());
+        verify(delegate, times(1)).findAllByIds(argThat(ids ->
+                Set.copyOf(ids).equals(Set.of(series.getId(), CategoryID.from("123")))
+        ));
+    }
+}
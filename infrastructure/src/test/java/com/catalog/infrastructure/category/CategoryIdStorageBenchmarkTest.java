@@ -0,0 +1,125 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.utils.IdUtils;
+import com.catalog.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = WebServerConfig.class, properties = "spring.jpa.show-sql=false")
+public class CategoryIdStorageBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5_000_000);
+    private static final int CHUNK = 1_000;
+
+    @Container
+    private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Test
+    public void givenFiveMillionCategories_whenStoringRandomAndTimeOrderedIds_shouldReportThroughputAndSize() {
+        final var varchar = measure("category_id_varchar", "VARCHAR(36)", "?", UUID::randomUUID);
+        final var binary = measure("category_id_binary", "BINARY(16)", "UUID_TO_BIN(?)", UUID::randomUUID);
+        final var timeOrdered = measure("category_id_v7", "BINARY(16)", "UUID_TO_BIN(?)", IdUtils::timeOrdered);
+
+        System.out.printf(
+                "%n[id storage benchmark] rows=%d%n"
+                        + "  VARCHAR(36) inserts=%.0f rows/s data=%.1fMB indexes=%.1fMB%n"
+                        + "  BINARY(16)  inserts=%.0f rows/s data=%.1fMB indexes=%.1fMB%n"
+                        + "  BINARY(16) time-ordered inserts=%.0f rows/s data=%.1fMB indexes=%.1fMB%n",
+                ROWS,
+                varchar[0], varchar[1], varchar[2],
+                binary[0], binary[1], binary[2],
+                timeOrdered[0], timeOrdered[1], timeOrdered[2]
+        );
+
+        Assertions.assertTrue(binary[2] < varchar[2]);
+    }
+
+    // same shape and secondary indexes as category, only the id column type differs
+    private double[] measure(
+            final String aTable,
+            final String anIdType,
+            final String anIdPlaceholder,
+            final Supplier<UUID> anIdGenerator
+    ) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + aTable);
+        jdbcTemplate.execute("""
+                CREATE TABLE %s (
+                    id %s NOT NULL PRIMARY KEY,
+                    name VARCHAR(255) NOT NULL,
+                    active BOOLEAN NOT NULL,
+                    created_at DATETIME(6) NOT NULL,
+                    INDEX idx_name_id (name, id),
+                    INDEX idx_created_at_id (created_at, id),
+                    INDEX idx_active_name (active, name)
+                )
+                """.formatted(aTable, anIdType));
+
+        final var row = "(%s, ?, true, ?)".formatted(anIdPlaceholder);
+        final var sql = "INSERT INTO %s (id, name, active, created_at) VALUES ".formatted(aTable)
+                + String.join(",", Collections.nCopies(CHUNK, row));
+
+        final var start = System.nanoTime();
+
+        for (int inserted = 0; inserted < ROWS; inserted += CHUNK) {
+            final var args = new ArrayList<>(CHUNK * 3);
+            final var now = Timestamp.from(Instant.now());
+
+            for (int i = 0; i < CHUNK; i++) {
+                args.add(anIdGenerator.get().toString());
+                args.add("Category " + (inserted + i));
+                args.add(now);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql, args.toArray()));
+        }
+
+        final var seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        jdbcTemplate.execute("ANALYZE TABLE " + aTable);
+
+        final var sizes = jdbcTemplate.queryForMap(
+                "SELECT data_length, index_length FROM information_schema.tables WHERE table_schema = DATABASE() AND table_name = ?",
+                aTable
+        );
+
+        return new double[]{
+                ROWS / seconds,
+                ((Number) sizes.get("data_length")).doubleValue() / (1024 * 1024),
+                ((Number) sizes.get("index_length")).doubleValue() / (1024 * 1024)
+        };
+    }
+}
@@ -0,0 +1,345 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.infrastructure.configuration.WebServerConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramLogWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Open model: requests are fired on a fixed schedule whatever the server does, and latency is taken
+// from the intended start so queueing behind a slow response is counted instead of hidden.
+@Tag("benchmark")
+@ActiveProfiles("test-integration")
+@SpringBootTest(
+        classes = WebServerConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false"
+)
+public class CategoryLoadTest {
+    private static final int SEED = Integer.getInteger("loadtest.seed", 10_000);
+    private static final int RATE = Integer.getInteger("loadtest.rate", 200);
+    private static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT60S"));
+    private static final Duration TIMEOUT = Duration.parse(System.getProperty("loadtest.timeout", "PT10S"));
+    private static final String MIX = System.getProperty("loadtest.mix", "create=10,get=40,list=20,search=15,update=10,delete=5");
+    private static final int MAX_IN_FLIGHT = Integer.getInteger("loadtest.maxInFlight", 2_000);
+    private static final Path OUTPUT = Path.of(System.getProperty("loadtest.output", "build/reports/loadtest"));
+    private static final int CHUNK = 1_000;
+    private static final String[] WORDS = {
+            "action", "adventure", "animation", "biography", "comedy", "crime", "documentary", "drama",
+            "family", "fantasy", "history", "horror", "music", "mystery", "romance", "science",
+            "fiction", "sport", "thriller", "war", "western", "kids", "series", "originals"
+    };
+
+    private enum Operation {
+        CREATE, GET, LIST, SEARCH, UPDATE, DELETE
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CategoryMySQLGateway gateway;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    private final Ids ids = new Ids();
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final LongAdder dropped = new LongAdder();
+
+    private HttpClient client;
+    private URI baseUri;
+
+    @Test
+    public void givenSeededCategories_whenDrivingAnOpenModelMix_shouldReportLatencyThroughputAndErrors() throws Exception {
+        final var mix = parseMix(MIX);
+
+        for (final var anOperation : Operation.values()) {
+            histograms.put(anOperation, new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3));
+            errors.put(anOperation, new LongAdder());
+        }
+
+        seed();
+
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+        this.baseUri = URI.create("http://localhost:%d/api/categories".formatted(port));
+
+        final var inFlight = new Semaphore(MAX_IN_FLIGHT);
+        final var intervalNanos = TimeUnit.SECONDS.toNanos(1) / RATE;
+        final var start = System.nanoTime();
+        final var measureFrom = start + WARMUP.toNanos();
+        final var end = measureFrom + DURATION.toNanos();
+
+        for (long intended = start; intended < end; intended += intervalNanos) {
+            final var wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            final var measured = intended >= measureFrom;
+            final var anOperation = pick(mix);
+
+            if (!inFlight.tryAcquire()) {
+                if (measured) {
+                    dropped.increment();
+                    errors.get(anOperation).increment();
+                }
+                continue;
+            }
+
+            final var intendedStart = intended;
+            send(anOperation).whenComplete((ok, ex) -> {
+                inFlight.release();
+                if (!measured) {
+                    return;
+                }
+                histograms.get(anOperation).recordValue(
+                        Math.min(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart), TimeUnit.MINUTES.toMicros(1))
+                );
+                if (ex != null || !ok) {
+                    errors.get(anOperation).increment();
+                }
+            });
+        }
+
+        if (!inFlight.tryAcquire(MAX_IN_FLIGHT, TIMEOUT.toMillis() * 2, TimeUnit.MILLISECONDS)) {
+            System.out.printf("%n[load test] %d requests still in flight after the run%n", MAX_IN_FLIGHT - inFlight.availablePermits());
+        }
+
+        report(mix);
+
+        Assertions.assertTrue(total().getTotalCount() > 0);
+    }
+
+    private void seed() {
+        for (int created = 0; created < SEED; created += CHUNK) {
+            final var aChunk = new ArrayList<Category>(CHUNK);
+
+            for (int i = 0; i < Math.min(CHUNK, SEED - created); i++) {
+                aChunk.add(Category.newCategory(sentence(2), sentence(8), true));
+            }
+
+            gateway.createAll(aChunk).forEach(aCategory -> ids.add(aCategory.getId().getValue()));
+        }
+    }
+
+    private CompletableFuture<Boolean> send(final Operation anOperation) {
+        final var random = ThreadLocalRandom.current();
+
+        return switch (anOperation) {
+            case CREATE -> client.sendAsync(json(baseUri).POST(body()).build(), HttpResponse.BodyHandlers.ofString())
+                    .thenApply(aResponse -> {
+                        if (aResponse.statusCode() != 201) {
+                            return false;
+                        }
+                        ids.add(readId(aResponse.body()));
+                        return true;
+                    });
+            case GET -> exchange(request(ids.random()).GET(), 200);
+            case LIST -> exchange(HttpRequest.newBuilder(baseUri.resolve(
+                    "categories?page=%d&perPage=10&sort=name&dir=asc".formatted(random.nextInt(10)))).GET(), 200);
+            case SEARCH -> exchange(HttpRequest.newBuilder(baseUri.resolve(
+                    "categories?search=%s&perPage=10&sort=name&dir=asc".formatted(WORDS[random.nextInt(WORDS.length)]))).GET(), 200);
+            case UPDATE -> exchange(json(baseUri.resolve("categories/" + ids.random())).PUT(body()), 200);
+            case DELETE -> exchange(request(ids.take()).DELETE(), 204);
+        };
+    }
+
+    // 404 is expected when a request races a delete of the same id, so it does not count as an error
+    private CompletableFuture<Boolean> exchange(final HttpRequest.Builder aRequest, final int expectedStatus) {
+        return client.sendAsync(aRequest.timeout(TIMEOUT).build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(aResponse -> aResponse.statusCode() == expectedStatus || aResponse.statusCode() == 404);
+    }
+
+    private HttpRequest.Builder request(final String anId) {
+        return HttpRequest.newBuilder(baseUri.resolve("categories/" + (anId == null ? "missing" : anId)));
+    }
+
+    private HttpRequest.Builder json(final URI anUri) {
+        return HttpRequest.newBuilder(anUri)
+                .timeout(TIMEOUT)
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher body() {
+        return HttpRequest.BodyPublishers.ofString(
+                "{\"name\":\"%s\",\"description\":\"%s\",\"is_active\":true}".formatted(sentence(2), sentence(8))
+        );
+    }
+
+    private String readId(final String aBody) {
+        try {
+            return mapper.readTree(aBody).get("id").asText();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private void report(final Map<Operation, Integer> aMix) throws IOException {
+        Files.createDirectories(OUTPUT);
+
+        final var seconds = DURATION.toNanos() / 1_000_000_000.0;
+        final var out = new StringBuilder("%n[load test] seed=%d rate=%d/s warmup=%s duration=%s mix=%s dropped=%d%n"
+                .formatted(SEED, RATE, WARMUP, DURATION, aMix, dropped.sum()));
+
+        out.append("  %-8s %9s %10s %9s %9s %9s %9s %8s%n"
+                .formatted("op", "count", "rps", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors"));
+
+        final var logStart = System.currentTimeMillis() - DURATION.toMillis();
+
+        try (final var log = new PrintStream(Files.newOutputStream(OUTPUT.resolve("categories.hlog")))) {
+            final var writer = new HistogramLogWriter(log);
+            writer.outputLogFormatVersion();
+            writer.outputStartTime(logStart);
+            writer.setBaseTime(logStart);
+            writer.outputLegend();
+
+            for (final var anOperation : Operation.values()) {
+                final var aHistogram = histograms.get(anOperation);
+                if (aHistogram.getTotalCount() == 0) {
+                    continue;
+                }
+                aHistogram.setTag(anOperation.name().toLowerCase());
+                aHistogram.setStartTimeStamp(logStart);
+                aHistogram.setEndTimeStamp(logStart + DURATION.toMillis());
+                writer.outputIntervalHistogram(aHistogram);
+                out.append(line(anOperation.name().toLowerCase(), aHistogram, errors.get(anOperation).sum(), seconds));
+                write(anOperation.name().toLowerCase(), aHistogram);
+            }
+        }
+
+        final var aTotal = total();
+        final var totalErrors = errors.values().stream().mapToLong(LongAdder::sum).sum();
+
+        out.append(line("total", aTotal, totalErrors, seconds));
+        out.append("  error rate %.3f%%, histograms written to %s%n"
+                .formatted(100.0 * totalErrors / Math.max(1, aTotal.getTotalCount() + dropped.sum()), OUTPUT.toAbsolutePath()));
+        write("total", aTotal);
+
+        System.out.print(out);
+    }
+
+    private static String line(final String aName, final Histogram aHistogram, final long someErrors, final double seconds) {
+        return "  %-8s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %8d%n".formatted(
+                aName,
+                aHistogram.getTotalCount(),
+                aHistogram.getTotalCount() / seconds,
+                aHistogram.getValueAtPercentile(50) / 1_000.0,
+                aHistogram.getValueAtPercentile(99) / 1_000.0,
+                aHistogram.getValueAtPercentile(99.9) / 1_000.0,
+                aHistogram.getMaxValue() / 1_000.0,
+                someErrors
+        );
+    }
+
+    private static void write(final String aName, final Histogram aHistogram) throws IOException {
+        try (final var aFile = new PrintStream(Files.newOutputStream(OUTPUT.resolve(aName + ".hgrm")))) {
+            aHistogram.outputPercentileDistribution(aFile, 1_000.0);
+        }
+    }
+
+    private Histogram total() {
+        final var aTotal = new Histogram(TimeUnit.MINUTES.toMicros(1), 3);
+        histograms.values().forEach(aTotal::add);
+        return aTotal;
+    }
+
+    private static Map<Operation, Integer> parseMix(final String aMix) {
+        final var mix = new EnumMap<Operation, Integer>(Operation.class);
+
+        for (final var anEntry : aMix.split(",")) {
+            final var parts = anEntry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load test mix entry: " + anEntry);
+            }
+            mix.put(Operation.valueOf(parts[0].trim().toUpperCase()), Integer.parseInt(parts[1].trim()));
+        }
+
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("Load test mix should have a positive total weight: " + aMix);
+        }
+
+        return mix;
+    }
+
+    private static Operation pick(final Map<Operation, Integer> aMix) {
+        final var total = aMix.values().stream().mapToInt(Integer::intValue).sum();
+        var aPick = ThreadLocalRandom.current().nextInt(total);
+
+        for (final var anEntry : aMix.entrySet()) {
+            aPick -= anEntry.getValue();
+            if (aPick < 0) {
+                return anEntry.getKey();
+            }
+        }
+
+        throw new IllegalStateException();
+    }
+
+    private static String sentence(final int words) {
+        final var random = ThreadLocalRandom.current();
+        final List<String> aSentence = new ArrayList<>(words);
+
+        for (int i = 0; i < words; i++) {
+            aSentence.add(WORDS[random.nextInt(WORDS.length)]);
+        }
+
+        return String.join(" ", aSentence);
+    }
+
+    // ids known to exist, shared by the dispatcher and the client threads; removal swaps with the tail
+    private static final class Ids {
+        private final List<String> values = new ArrayList<>();
+
+        synchronized void add(final String anId) {
+            values.add(anId);
+        }
+
+        synchronized String random() {
+            return values.isEmpty() ? null : values.get(ThreadLocalRandom.current().nextInt(values.size()));
+        }
+
+        synchronized String take() {
+            if (values.isEmpty()) {
+                return null;
+            }
+            final var index = ThreadLocalRandom.current().nextInt(values.size());
+            final var last = values.remove(values.size() - 1);
+            return index == values.size() ? last : values.set(index, last);
+        }
+    }
+}
@@ -2,15 +2,30 @@ package com.catalog.infrastructure.category;
 
 import com.catalog.IntegrationTest;
 import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryAttribute;
 import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.exceptions.DomainException;
+import com.catalog.domain.exceptions.NotFoundException;
+import com.catalog.domain.exceptions.PreconditionFailedException;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchMode;
 import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.domain.pagination.TotalType;
+import com.catalog.domain.utils.InstantUtils;
 import com.catalog.infrastructure.category.persistence.CategoryJpaEntity;
 import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @IntegrationTest
 public class CategoryMySQLGatewayTest {
@@ -20,6 +35,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository repository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void givenAValidCategory_whenCallsCreate_shouldReturnANewCategory() {
         final var expectedName = "Movies";
@@ -42,10 +60,10 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(aCategory.getDeletedAt(), actualCategory.getDeletedAt());
         Assertions.assertNull(actualCategory.getDeletedAt());
 
-        final var actualEntity = repository.findById(aCategory.getId().getValue()).get();
+        final var actualEntity = repository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         Assertions.assertEquals(1, repository.count());
-        Assertions.assertEquals(aCategory.getId().getValue(), actualEntity.getId());
+        Assertions.assertEquals(aCategory.getId().getValue(), actualEntity.getId().toString());
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, actualEntity.isActive());
@@ -72,29 +90,19 @@ public class CategoryMySQLGatewayTest {
                 .clone()
                 .update(expectedName, expectedDescription, expectedIsActive);
 
-        final var actualCategory = gateway.update(anUpdatedCategory);
-        Assertions.assertEquals(1, repository.count());
-
-        Assertions.assertEquals(aCategory.getId(), actualCategory.getId());
-        Assertions.assertEquals(expectedName, actualCategory.getName());
-        Assertions.assertEquals(expectedDescription, actualCategory.getDescription());
-        Assertions.assertEquals(expectedIsActive, actualCategory.isActive());
-        Assertions.assertEquals(aCategory.getCreatedAt(), actualCategory.getCreatedAt());
-        Assertions.assertTrue(aCategory.getUpdatedAt().isBefore(actualCategory.getUpdatedAt()));
-        Assertions.assertEquals(aCategory.getDeletedAt(), actualCategory.getDeletedAt());
-        Assertions.assertNull(actualCategory.getDeletedAt());
+        Assertions.assertTrue(gateway.update(anUpdatedCategory, null));
 
-        final var actualEntity = repository.findById(aCategory.getId().getValue()).get();
+        final var actualEntity = repository.findById(UUID.fromString(aCategory.getId().getValue())).get();
 
         Assertions.assertEquals(1, repository.count());
-        Assertions.assertEquals(aCategory.getId().getValue(), actualEntity.getId());
+        Assertions.assertEquals(aCategory.getId().getValue(), actualEntity.getId().toString());
         Assertions.assertEquals(expectedName, actualEntity.getName());
         Assertions.assertEquals(expectedDescription, actualEntity.getDescription());
         Assertions.assertEquals(expectedIsActive, actualEntity.isActive());
         Assertions.assertEquals(aCategory.getCreatedAt(), actualEntity.getCreatedAt());
-        Assertions.assertTrue(aCategory.getUpdatedAt().isBefore(actualCategory.getUpdatedAt()));
-        Assertions.assertEquals(aCategory.getDeletedAt(), actualEntity.getDeletedAt());
+        Assertions.assertEquals(anUpdatedCategory.getUpdatedAt(), actualEntity.getUpdatedAt());
         Assertions.assertNull(actualEntity.getDeletedAt());
+        Assertions.assertEquals(1L, actualEntity.getVersion());
     }
 
     @Test
@@ -314,4 +322,578 @@ public class CategoryMySQLGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
         Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
     }
+
+    @Test
+    public void givenFollowCursor_whenCallsFindAllWithCursor_shouldSeekThroughPages() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = 3;
+
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentary = Category.newCategory("Documentary", null, true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary)
+        ));
+
+        Assertions.assertEquals(3, repository.count());
+
+        // First page
+        var aQuery = new SearchQuery(0, 1, "", "name", "asc", "");
+        var actualResult = gateway.findAll(aQuery);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedTotal, actualResult.total());
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(documentary.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Second page
+        aQuery = new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor());
+        actualResult = gateway.findAll(aQuery);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNotNull(actualResult.nextCursor());
+
+        // Last page
+        aQuery = new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor());
+        actualResult = gateway.findAll(aQuery);
+
+        Assertions.assertEquals(expectedPerPage, actualResult.items().size());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+        Assertions.assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenCategoriesWithSameCreatedAt_whenCallsFindAllWithCursorDesc_shouldTieBreakById() {
+        final var now = InstantUtils.now();
+        final var movies = Category.with(CategoryID.from("40000000-0000-4000-8000-000000000000"), "Movies", null, true, now, now, null);
+        final var series = Category.with(CategoryID.from("70000000-0000-4000-8000-000000000000"), "Series", null, true, now, now, null);
+        final var documentary = Category.with(CategoryID.from("10000000-0000-4000-8000-000000000000"), "Documentary", null, true, now, now, null);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary)
+        ));
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 2, "", "createdAt", "desc", ""));
+
+        Assertions.assertEquals(2, firstPage.items().size());
+        Assertions.assertEquals(series.getId(), firstPage.items().get(0).getId());
+        Assertions.assertNotNull(firstPage.nextCursor());
+
+        final var lastPage = gateway.findAll(new SearchQuery(0, 2, "", "createdAt", "desc", firstPage.nextCursor()));
+
+        Assertions.assertEquals(1, lastPage.items().size());
+        Assertions.assertEquals(documentary.getId(), lastPage.items().get(0).getId());
+        Assertions.assertNull(lastPage.nextCursor());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAll_shouldReturnDomainException() {
+        final var expectedErrorMessage = "'cursor' is invalid";
+
+        final var aQuery = new SearchQuery(0, 1, "", "name", "asc", "%%%");
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(aQuery)
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_shouldReturnHasNextOnly() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentary = Category.newCategory("Documentary", null, true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentary)
+        ));
+
+        var actualResult = gateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, TotalType.NONE));
+
+        Assertions.assertEquals(1, actualResult.currentPage());
+        Assertions.assertEquals(Pagination.UNKNOWN_TOTAL, actualResult.total());
+        Assertions.assertEquals(TotalType.NONE, actualResult.totalType());
+        Assertions.assertTrue(actualResult.hasNext());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+
+        actualResult = gateway.findAll(new SearchQuery(2, 1, "", "name", "asc", null, TotalType.NONE));
+
+        Assertions.assertFalse(actualResult.hasNext());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithEstimatedTotal_shouldReuseCachedTotal() {
+        final var expectedTotal = 2;
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true))
+        ));
+
+        final var aQuery = new SearchQuery(0, 10, "estimated", "name", "asc", null, TotalType.ESTIMATED);
+        Assertions.assertEquals(0, gateway.findAll(aQuery).total());
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Estimated Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Estimated Series", null, true))
+        ));
+
+        final var actualResult = gateway.findAll(aQuery);
+
+        Assertions.assertEquals(TotalType.ESTIMATED, actualResult.totalType());
+        Assertions.assertEquals(0, actualResult.total());
+        Assertions.assertEquals(expectedTotal, actualResult.items().size());
+        Assertions.assertFalse(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenFulltextSearchMode_whenFulltextIsDisabled_shouldFallbackToLike() {
+        final var movies = Category.newCategory("Movies", "Movies most watched", true);
+        final var series = Category.newCategory("Series", "Random series", true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var aQuery = new SearchQuery(0, 10, "ovie", "name", "asc", null, TotalType.EXACT, SearchMode.FULLTEXT);
+        final var actualResult = gateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(movies.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenIndexSearchMode_whenIndexIsDisabled_shouldFallbackToLike() {
+        final var movies = Category.newCategory("Movies", "Movies most watched", true);
+        final var series = Category.newCategory("Series", "Random series", true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var aQuery = new SearchQuery(0, 10, "random", "name", "asc", null, TotalType.EXACT, SearchMode.INDEX);
+        final var actualResult = gateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(series.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenMoreIdsThanAnInClauseChunk_whenCallsFindAllByIds_shouldReturnOnlyExistingCategories() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(movies),
+                CategoryJpaEntity.from(series)
+        ));
+
+        final var someIds = new ArrayList<CategoryID>();
+        someIds.add(movies.getId());
+
+        for (int i = 0; i < 1_500; i++) {
+            someIds.add(CategoryID.from(String.valueOf(i)));
+        }
+
+        someIds.add(series.getId());
+
+        final var actualResult = gateway.findAllByIds(someIds);
+
+        Assertions.assertEquals(2, actualResult.size());
+        Assertions.assertEquals(
+                Set.of(movies.getId(), series.getId()),
+                actualResult.stream().map(Category::getId).collect(Collectors.toSet())
+        );
+    }
+
+    @Test
+    public void givenValidCategories_whenCallsCreateAllUpdateAllAndDeleteAllByIds_shouldPersistInBulk() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        Assertions.assertEquals(0, repository.count());
+
+        final var actualCreated = gateway.createAll(List.of(movies, series, documentaries));
+
+        Assertions.assertEquals(3, actualCreated.size());
+        Assertions.assertEquals(3, repository.count());
+
+        final var actualFailures = gateway.updateAll(
+                List.of(movies.clone().update("Films", "Most watched", false)),
+                Map.of()
+        );
+
+        Assertions.assertTrue(actualFailures.isEmpty());
+
+        final var actualEntity = repository.findById(UUID.fromString(movies.getId().getValue())).get();
+        Assertions.assertEquals("Films", actualEntity.getName());
+        Assertions.assertEquals("Most watched", actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+        Assertions.assertEquals(1L, actualEntity.getVersion());
+
+        gateway.deleteAllByIds(List.of(movies.getId(), series.getId(), CategoryID.from("123")));
+
+        Assertions.assertEquals(1, repository.count());
+        Assertions.assertTrue(repository.existsById(UUID.fromString(documentaries.getId().getValue())));
+    }
+
+    @Test
+    public void givenStaleAndMissingCategories_whenCallsUpdateAll_shouldReportThemPerItemInOneBatch() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        final var documentaries = Category.newCategory("Documentaries", null, true);
+
+        gateway.createAll(List.of(movies, series));
+        gateway.update(series.clone().update("Shows", null, true), 0L);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            final var actualFailures = gateway.updateAll(
+                    List.of(
+                            movies.clone().update("Films", null, true),
+                            series.clone().update("Serials", null, true),
+                            documentaries,
+                            Category.with(CategoryID.from("123"), "Invalid", null, true, InstantUtils.now(), InstantUtils.now(), null)
+                    ),
+                    Map.of(movies.getId(), 0L, series.getId(), 0L, documentaries.getId(), 0L)
+            );
+
+            Assertions.assertEquals(
+                    Set.of(series.getId(), documentaries.getId(), CategoryID.from("123")),
+                    actualFailures.keySet()
+            );
+            Assertions.assertInstanceOf(PreconditionFailedException.class, actualFailures.get(series.getId()));
+            Assertions.assertInstanceOf(NotFoundException.class, actualFailures.get(documentaries.getId()));
+            Assertions.assertInstanceOf(NotFoundException.class, actualFailures.get(CategoryID.from("123")));
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        Assertions.assertEquals("Films", repository.findById(UUID.fromString(movies.getId().getValue())).get().getName());
+        Assertions.assertEquals("Shows", repository.findById(UUID.fromString(series.getId().getValue())).get().getName());
+        Assertions.assertEquals(2, repository.count());
+    }
+
+    @Test
+    public void givenNoExpectedVersions_whenCallsUpdateAll_shouldUpdateUnconditionallyAndKeepTheFirstDeletedAt() {
+        final var movies = Category.newCategory("Movies", null, false);
+
+        gateway.createAll(List.of(movies));
+        gateway.update(movies.clone().update("Films", null, false), 0L);
+
+        final var aCategory = Category.with(movies.getId(), "Shows", null, false, InstantUtils.now(), InstantUtils.now(), InstantUtils.now());
+
+        Assertions.assertTrue(gateway.updateAll(List.of(aCategory), Map.of()).isEmpty());
+
+        final var actualEntity = repository.findById(UUID.fromString(movies.getId().getValue())).get();
+        Assertions.assertEquals("Shows", actualEntity.getName());
+        Assertions.assertEquals(movies.getDeletedAt(), actualEntity.getDeletedAt());
+        Assertions.assertEquals(2L, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenANewCategory_whenCallsCreate_shouldIssueASingleInsert() {
+        final var aCategory = Category.newCategory("Movies", "Movies most watched", true);
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            gateway.create(aCategory);
+
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+            Assertions.assertEquals(1, statistics.getEntityInsertCount());
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        Assertions.assertEquals(1, repository.count());
+    }
+
+    @Test
+    public void givenNewCategories_whenCallsCreateAll_shouldOnlyIssueInserts() {
+        final var someCategories = List.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Series", null, true),
+                Category.newCategory("Documentaries", null, true)
+        );
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            gateway.createAll(someCategories);
+
+            Assertions.assertEquals(3, statistics.getEntityInsertCount());
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        Assertions.assertEquals(3, repository.count());
+    }
+
+    @Test
+    public void givenAPersistedAndAMissingCategory_whenCallsDeleteById_shouldUseOneStatementAndReportIfFound() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            Assertions.assertTrue(gateway.deleteById(aCategory.getId()));
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+            Assertions.assertFalse(gateway.deleteById(aCategory.getId()));
+            Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    @Test
+    public void givenPersistedAndMissingIds_whenCallsExistsByIds_shouldReturnTheMissingOnesWithOneStatement() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        repository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        final var missing = CategoryID.unique();
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            final var actualMissing = gateway.existsByIds(
+                    List.of(movies.getId(), missing, series.getId(), CategoryID.from("123"), missing)
+            );
+
+            Assertions.assertEquals(List.of(missing, CategoryID.from("123")), actualMissing);
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsUpdate_shouldIssueASingleVersionedUpdate() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            Assertions.assertTrue(gateway.update(aCategory.clone().update("Movies", null, true), 0L));
+
+            Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+            Assertions.assertEquals(0, statistics.getEntityLoadCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var actualEntity = repository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+        Assertions.assertEquals("Movies", actualEntity.getName());
+        Assertions.assertEquals(1L, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenAStaleVersion_whenCallsUpdate_shouldThrowPreconditionFailed() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        gateway.update(aCategory.clone().update("Movies", null, true), 0L);
+
+        Assertions.assertThrows(
+                PreconditionFailedException.class,
+                () -> gateway.update(aCategory.clone().update("Series", null, true), 0L)
+        );
+
+        Assertions.assertEquals("Movies", repository.findById(UUID.fromString(aCategory.getId().getValue())).get().getName());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsUpdate_shouldReturnFalse() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        Assertions.assertFalse(gateway.update(aCategory, 0L));
+        Assertions.assertFalse(gateway.update(aCategory, null));
+        Assertions.assertFalse(gateway.update(Category.with(
+                CategoryID.from("123"),
+                "Film",
+                null,
+                true,
+                aCategory.getCreatedAt(),
+                aCategory.getUpdatedAt(),
+                null
+        ), null));
+        Assertions.assertEquals(0, repository.count());
+    }
+
+    @Test
+    public void givenAnInactiveCategory_whenCallsUpdateToInactiveAgain_shouldKeepTheFirstDeletedAt() {
+        final var aCategory = Category.newCategory("Film", null, false);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        final var now = InstantUtils.now();
+        gateway.update(Category.with(aCategory.getId(), "Movies", null, false, now, now, now), null);
+
+        final var actualEntity = repository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+        Assertions.assertEquals("Movies", actualEntity.getName());
+        Assertions.assertEquals(aCategory.getDeletedAt(), actualEntity.getDeletedAt());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsPatchWithActive_shouldOnlyWriteActiveColumns() {
+        final var aCategory = Category.newCategory("Film", "Movies", true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        // the name change is not listed, so it must not reach the database
+        final var aPatchedCategory = aCategory.clone().update("Series", "Movies", false);
+
+        Assertions.assertTrue(gateway.patch(aPatchedCategory, Set.of(CategoryAttribute.ACTIVE), 0L));
+
+        final var actualEntity = repository.findById(UUID.fromString(aCategory.getId().getValue())).get();
+        Assertions.assertEquals("Film", actualEntity.getName());
+        Assertions.assertEquals("Movies", actualEntity.getDescription());
+        Assertions.assertFalse(actualEntity.isActive());
+        Assertions.assertNotNull(actualEntity.getDeletedAt());
+        Assertions.assertEquals(1L, actualEntity.getVersion());
+    }
+
+    @Test
+    public void givenAStaleCategory_whenCallsPatch_shouldThrowPreconditionFailed() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        gateway.patch(aCategory.clone().update("Movies", null, true), Set.of(CategoryAttribute.NAME), 0L);
+
+        Assertions.assertThrows(
+                PreconditionFailedException.class,
+                () -> gateway.patch(aCategory.clone().update("Film", null, false), Set.of(CategoryAttribute.ACTIVE), 0L)
+        );
+
+        Assertions.assertTrue(repository.findById(UUID.fromString(aCategory.getId().getValue())).get().isActive());
+    }
+
+    @Test
+    public void givenNoAttributes_whenCallsPatch_shouldOnlyCheckTheVersion() {
+        final var aCategory = Category.newCategory("Film", null, true);
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertTrue(gateway.patch(aCategory, Set.of(), 0L));
+        Assertions.assertThrows(PreconditionFailedException.class, () -> gateway.patch(aCategory, Set.of(), 1L));
+        Assertions.assertEquals(0L, repository.findById(UUID.fromString(aCategory.getId().getValue())).get().getVersion());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsPatch_shouldReturnFalse() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        Assertions.assertFalse(gateway.patch(aCategory, Set.of(CategoryAttribute.NAME), null));
+        Assertions.assertFalse(gateway.patch(aCategory, Set.of(), null));
+    }
+
+    @Test
+    public void givenAnUnindexedSort_whenCallsFindAll_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' description is not supported, use one of active, createdAt, id or name";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(new SearchQuery(0, 10, "", "description", "asc"))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenActiveSort_whenCallsFindAll_shouldOrderByActiveThenName() {
+        repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Series", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Kids", null, false)),
+                CategoryJpaEntity.from(Category.newCategory("Movies", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Anime", null, false))
+        ));
+
+        final var actualResult = gateway.findAll(new SearchQuery(0, 10, "", "active", "asc"));
+
+        Assertions.assertEquals(
+                List.of("Anime", "Kids", "Movies", "Series"),
+                actualResult.items().stream().map(Category::getName).toList()
+        );
+    }
+
+    @Test
+    public void givenActiveSort_whenCallsFindAllWithCursor_shouldThrowDomainException() {
+        final var expectedErrorMessage = "'sort' active is not supported with cursor pagination";
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(new SearchQuery(0, 10, "", "active", "asc", ""))
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenBinaryIds_whenCallsFindAllWithCursorById_shouldSeekInIdOrder() {
+        final var someCategories = new ArrayList<Category>();
+
+        for (int i = 0; i < 5; i++) {
+            someCategories.add(Category.newCategory("Category " + i, null, true));
+        }
+
+        repository.saveAllAndFlush(someCategories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var expectedIds = someCategories.stream().map(aCategory -> aCategory.getId().getValue()).sorted().toList();
+        final var actualIds = new ArrayList<String>();
+
+        var aQuery = new SearchQuery(0, 2, "", "id", "asc", "");
+
+        while (true) {
+            final var actualPage = gateway.findAll(aQuery);
+            actualPage.items().forEach(aCategory -> actualIds.add(aCategory.getId().getValue()));
+
+            if (actualPage.nextCursor() == null) {
+                break;
+            }
+
+            aQuery = new SearchQuery(0, 2, "", "id", "asc", actualPage.nextCursor());
+        }
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
 }
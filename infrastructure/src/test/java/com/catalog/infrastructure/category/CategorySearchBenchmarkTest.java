@@ -0,0 +1,98 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.CatalogDataGenerator;
+import com.catalog.domain.pagination.SearchMode;
+import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.domain.pagination.TotalType;
+import com.catalog.infrastructure.configuration.WebServerConfig;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Tag("benchmark")
+@Testcontainers
+@ActiveProfiles("test-e2e")
+@SpringBootTest(classes = WebServerConfig.class, properties = "spring.jpa.show-sql=false")
+public class CategorySearchBenchmarkTest {
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 1_000_000);
+    private static final int ITERATIONS = Integer.getInteger("benchmark.iterations", 200);
+    private static final String[] WORDS = {
+            "action", "adventure", "animation", "biography", "comedy", "crime", "documentary", "drama",
+            "family", "fantasy", "history", "horror", "music", "mystery", "romance", "science",
+            "fiction", "sport", "thriller", "war", "western", "kids", "series", "originals"
+    };
+
+    @Container
+    private static final MySQLContainer<?> MYSQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Autowired
+    private CategoryMySQLGateway gateway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Test
+    public void givenOneMillionCategories_whenSearchingByLikeAndFulltext_shouldReportLatency() {
+        seed();
+
+        final var like = measure(SearchMode.LIKE);
+        final var fulltext = measure(SearchMode.FULLTEXT);
+
+        System.out.printf(
+                "%n[search benchmark] rows=%d iterations=%d%n  LIKE     p50=%.2fms p99=%.2fms%n  FULLTEXT p50=%.2fms p99=%.2fms%n",
+                ROWS, ITERATIONS, like[0], like[1], fulltext[0], fulltext[1]
+        );
+
+        Assertions.assertTrue(fulltext[0] > 0 && like[0] > 0);
+    }
+
+    private void seed() {
+        CatalogDataGenerator.with(jdbcTemplate).categories(ROWS).generate();
+        jdbcTemplate.execute("ANALYZE TABLE category");
+    }
+
+    private double[] measure(final SearchMode aMode) {
+        final var samples = new long[ITERATIONS];
+
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            search(aMode);
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            final var start = System.nanoTime();
+            search(aMode);
+            samples[i] = System.nanoTime() - start;
+        }
+
+        Arrays.sort(samples);
+        return new double[]{
+                samples[(int) (ITERATIONS * 0.50)] / 1_000_000.0,
+                samples[(int) Math.min(ITERATIONS - 1, ITERATIONS * 0.99)] / 1_000_000.0
+        };
+    }
+
+    private void search(final SearchMode aMode) {
+        final var aTerm = WORDS[ThreadLocalRandom.current().nextInt(WORDS.length)];
+        gateway.findAll(new SearchQuery(0, 10, aTerm, "name", "asc", null, TotalType.EXACT, aMode));
+    }
+}
@@ -0,0 +1,96 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.IntegrationTest;
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.domain.utils.InstantUtils;
+import com.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@IntegrationTest
+@TestPropertySource(properties = "categories.soft-delete.enabled=true")
+public class CategorySoftDeleteTest {
+    @Autowired
+    private CategoryMySQLGateway gateway;
+
+    @Autowired
+    private CategoryRepository repository;
+
+    @AfterEach
+    void purgeTombstones() {
+        new CategoryPurgeJob(repository, Duration.ZERO, 1000).purge(tomorrow());
+    }
+
+    @Test
+    public void givenAPersistedCategory_whenCallsDeleteById_shouldHideItButKeepTheRow() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+        repository.saveAndFlush(CategoryJpaEntity.from(aCategory));
+
+        Assertions.assertTrue(gateway.deleteById(expectedId));
+        Assertions.assertFalse(gateway.deleteById(expectedId));
+
+        Assertions.assertTrue(gateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(gateway.findAllByIds(List.of(expectedId)).isEmpty());
+        Assertions.assertEquals(0, gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).total());
+        Assertions.assertEquals(0, repository.count());
+
+        Assertions.assertEquals(1, repository.findRemovedIdsBefore(tomorrow(), 10).size());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsDeleteAllByIds_shouldOnlyHideTheGivenOnes() {
+        final var movies = Category.newCategory("Movies", null, true);
+        final var series = Category.newCategory("Series", null, true);
+        repository.saveAllAndFlush(List.of(CategoryJpaEntity.from(movies), CategoryJpaEntity.from(series)));
+
+        gateway.deleteAllByIds(List.of(movies.getId(), CategoryID.from("123")));
+
+        final var actualPage = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(series.getId(), actualPage.items().get(0).getId());
+    }
+
+    @Test
+    public void givenOldAndRecentTombstones_whenCallsPurge_shouldHardDeleteOnlyOldOnesInChunks() {
+        final var someCategories = List.of(
+                Category.newCategory("Movies", null, true),
+                Category.newCategory("Series", null, true),
+                Category.newCategory("Documentaries", null, true),
+                Category.newCategory("Shorts", null, true),
+                Category.newCategory("Kids", null, true)
+        );
+        final var aRecentCategory = Category.newCategory("Anime", null, true);
+
+        repository.saveAllAndFlush(someCategories.stream().map(CategoryJpaEntity::from).toList());
+        repository.saveAndFlush(CategoryJpaEntity.from(aRecentCategory));
+
+        gateway.deleteAllByIds(someCategories.stream().map(Category::getId).toList());
+
+        final var aBefore = InstantUtils.now().plusMillis(1);
+
+        repository.softDeleteAllByIds(List.of(UUID.fromString(aRecentCategory.getId().getValue())), aBefore.plusSeconds(60));
+
+        final var actualPurged = new CategoryPurgeJob(repository, Duration.ZERO, 2).purge(aBefore);
+
+        Assertions.assertEquals(5, actualPurged);
+        Assertions.assertEquals(1, repository.findRemovedIdsBefore(tomorrow(), 10).size());
+    }
+
+    private static Instant tomorrow() {
+        return InstantUtils.now().plus(1, ChronoUnit.DAYS);
+    }
+}
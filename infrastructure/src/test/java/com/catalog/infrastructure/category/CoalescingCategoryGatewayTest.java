@@ -0,0 +1,177 @@
+package com.catalog.infrastructure.category;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.category.CategoryGateway;
+import com.catalog.domain.pagination.Pagination;
+import com.catalog.domain.pagination.SearchQuery;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CoalescingCategoryGatewayTest {
+    private static final int CALLERS = 8;
+
+    private CategoryGateway delegate;
+
+    private SimpleMeterRegistry registry;
+
+    private CoalescingCategoryGateway gateway;
+
+    @BeforeEach
+    void setUp() {
+        delegate = Mockito.mock(CategoryGateway.class);
+        registry = new SimpleMeterRegistry();
+        gateway = new CoalescingCategoryGateway(delegate, registry);
+    }
+
+    @Test
+    public void givenConcurrentLookupsForTheSameId_whenCallsFindById_shouldHitDelegateOnce() throws Exception {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+        final var release = new CountDownLatch(1);
+
+        when(delegate.findById(eq(expectedId))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(aCategory);
+        });
+
+        final var results = concurrently(() -> gateway.findById(expectedId).get(), gateway::collapsedFindById, release);
+
+        verify(delegate, times(1)).findById(eq(expectedId));
+        Assertions.assertEquals(CALLERS - 1, gateway.collapsedFindById());
+        Assertions.assertEquals(CALLERS - 1, registry.get("categories.gateway.collapsed")
+                .tag("operation", "findById").functionCounter().count());
+
+        for (final var aResult : results) {
+            Assertions.assertEquals(expectedId, aResult.getId());
+            Assertions.assertNotSame(aCategory, aResult);
+        }
+    }
+
+    @Test
+    public void givenConcurrentIdenticalQueries_whenCallsFindAll_shouldHitDelegateOnce() throws Exception {
+        final var aQuery = new SearchQuery(0, 10, "movies", "name", "asc");
+        final var release = new CountDownLatch(1);
+
+        when(delegate.findAll(eq(aQuery))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return new Pagination<>(0, 10, 1, List.of(Category.newCategory("Movies", null, true)));
+        });
+
+        final var results = concurrently(() -> gateway.findAll(aQuery), gateway::collapsedFindAll, release);
+
+        verify(delegate, times(1)).findAll(any());
+        Assertions.assertEquals(CALLERS - 1, gateway.collapsedFindAll());
+        results.forEach(aResult -> Assertions.assertEquals(1, aResult.total()));
+    }
+
+    @Test
+    public void givenAFailingLookup_whenCallsFindById_shouldPropagateAndNotKeepItInFlight() {
+        final var aCategory = Category.newCategory("Movies", null, true);
+        final var expectedId = aCategory.getId();
+
+        when(delegate.findById(eq(expectedId)))
+                .thenThrow(new IllegalStateException("Gateway error"))
+                .thenReturn(Optional.of(aCategory));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> gateway.findById(expectedId));
+        Assertions.assertTrue(gateway.findById(expectedId).isPresent());
+        Assertions.assertEquals(0, gateway.collapsedFindById());
+    }
+
+    @Test
+    public void givenALeaderError_whenCallsFindByIdConcurrently_shouldFailEveryWaiter() throws Exception {
+        final var expectedId = Category.newCategory("Movies", null, true).getId();
+        final var release = new CountDownLatch(1);
+
+        when(delegate.findById(eq(expectedId))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new AssertionError("Gateway error");
+        });
+
+        final var executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            final var futures = new ArrayList<Future<Optional<Category>>>();
+
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(() -> gateway.findById(expectedId)));
+            }
+
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (gateway.collapsedFindById() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+
+            for (final var aFuture : futures) {
+                final var actualException = Assertions.assertThrows(
+                        ExecutionException.class,
+                        () -> aFuture.get(5, TimeUnit.SECONDS)
+                );
+
+                Assertions.assertInstanceOf(AssertionError.class, actualException.getCause());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(delegate, times(1)).findById(eq(expectedId));
+        Assertions.assertEquals(CALLERS - 1, gateway.collapsedFindById());
+    }
+
+    private static <T> List<T> concurrently(
+            final Callable<T> aCall,
+            final LongSupplier collapsed,
+            final CountDownLatch release
+    ) throws Exception {
+        final var executor = Executors.newFixedThreadPool(CALLERS);
+
+        try {
+            final var futures = new ArrayList<Future<T>>();
+
+            for (int i = 0; i < CALLERS; i++) {
+                futures.add(executor.submit(aCall));
+            }
+
+            final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+            while (collapsed.getAsLong() < CALLERS - 1 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            release.countDown();
+
+            final var results = new ArrayList<T>();
+
+            for (final var aFuture : futures) {
+                results.add(aFuture.get(5, TimeUnit.SECONDS));
+            }
+
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
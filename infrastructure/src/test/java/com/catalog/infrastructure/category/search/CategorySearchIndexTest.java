@@ -0,0 +1,116 @@
+package com.catalog.infrastructure.category.search;
+
+import com.catalog.domain.category.Category;
+import com.catalog.domain.pagination.TotalType;
+import com.catalog.infrastructure.category.persistence.CategoryJpaEntity;
+import com.catalog.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+public class CategorySearchIndexTest {
+    @TempDir
+    private Path directory;
+
+    private CategoryRepository repository;
+
+    private CategorySearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        repository = Mockito.mock(CategoryRepository.class);
+        index = new CategorySearchIndex(repository, true, directory.toString(), false);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    public void givenIndexedCategories_whenSearchingWithATypo_shouldReturnMatchingIds() {
+        final var documentaries = Category.newCategory("Documentaries", "Real stories", true);
+        final var movies = Category.newCategory("Movies", "Movies most watched", true);
+
+        index.index(documentaries);
+        index.index(movies);
+
+        final var actualResult = index.search("documentries", 0, 10, TotalType.EXACT);
+
+        Assertions.assertEquals(1, actualResult.total());
+        Assertions.assertEquals(List.of(documentaries.getId().getValue()), actualResult.items());
+        Assertions.assertFalse(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenAMatchOnNameAndDescription_whenSearching_shouldRankNameFirst() {
+        final var series = Category.newCategory("Series", "Series and movies", true);
+        final var movies = Category.newCategory("Movies", "Most watched", true);
+
+        index.index(series);
+        index.index(movies);
+
+        final var actualResult = index.search("movies", 0, 1, TotalType.EXACT);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(List.of(movies.getId().getValue()), actualResult.items());
+        Assertions.assertTrue(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenAnIndexedCategory_whenUpdatedAndDeleted_shouldKeepIndexInSync() {
+        final var aCategory = Category.newCategory("Film", null, true);
+
+        index.index(aCategory);
+        index.index(aCategory.update("Movies", null, true));
+
+        Assertions.assertEquals(0, index.search("film", 0, 10, TotalType.EXACT).total());
+        Assertions.assertEquals(1, index.search("movies", 0, 10, TotalType.EXACT).total());
+
+        index.delete(aCategory.getId());
+
+        Assertions.assertEquals(0, index.search("movies", 0, 10, TotalType.EXACT).total());
+    }
+
+    @Test
+    public void givenCategoriesInTheTable_whenCallsRebuild_shouldReplaceIndexContents() {
+        final var stale = Category.newCategory("Stale", null, true);
+        final var movies = Category.newCategory("Movies", null, true);
+
+        index.index(stale);
+
+        when(repository.findSlice(any(), any()))
+                .thenReturn(new SliceImpl<>(List.of(CategoryJpaEntity.from(movies)), PageRequest.of(0, 1_000), false));
+
+        index.rebuild();
+
+        Assertions.assertEquals(0, index.search("stale", 0, 10, TotalType.EXACT).total());
+        Assertions.assertEquals(1, index.search("movies", 0, 10, TotalType.EXACT).total());
+    }
+
+    @Test
+    public void givenAnUncommittedWrite_whenSearchingAndReopening_shouldSeeItAndKeepItAfterClose() throws IOException {
+        final var movies = Category.newCategory("Movies", null, true);
+
+        index.index(movies);
+
+        Assertions.assertEquals(1, index.search("movies", 0, 10, TotalType.EXACT).total());
+
+        index.close();
+        index = new CategorySearchIndex(repository, true, directory.toString(), false);
+
+        Assertions.assertEquals(1, index.search("movies", 0, 10, TotalType.EXACT).total());
+    }
+}
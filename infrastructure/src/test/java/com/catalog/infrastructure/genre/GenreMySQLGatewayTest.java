@@ -0,0 +1,258 @@
+package com.catalog.infrastructure.genre;
+
+import com.catalog.IntegrationTest;
+import com.catalog.domain.category.CategoryID;
+import com.catalog.domain.genre.Genre;
+import com.catalog.domain.genre.GenreID;
+import com.catalog.domain.pagination.SearchQuery;
+import com.catalog.infrastructure.genre.persistence.GenreCategoryRepository;
+import com.catalog.infrastructure.genre.persistence.GenreRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@IntegrationTest
+public class GenreMySQLGatewayTest {
+    @Autowired
+    private GenreMySQLGateway gateway;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private GenreCategoryRepository genreCategoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void givenAGenreWithCategories_whenCallsCreate_shouldPersistGenreAndAssociations() {
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+
+        final var aGenre = Genre.newGenre("Action", true)
+                .addCategory(movies)
+                .addCategory(series);
+
+        final var actualGenre = gateway.create(aGenre);
+
+        Assertions.assertEquals(aGenre.getId(), actualGenre.getId());
+        Assertions.assertEquals(Set.of(movies, series), Set.copyOf(actualGenre.getCategories()));
+        Assertions.assertEquals(1, genreRepository.count());
+        Assertions.assertEquals(2, genreCategoryRepository.count());
+
+        final var persistedGenre = gateway.findById(aGenre.getId()).get();
+
+        Assertions.assertEquals("Action", persistedGenre.getName());
+        Assertions.assertTrue(persistedGenre.isActive());
+        Assertions.assertEquals(aGenre.getCreatedAt(), persistedGenre.getCreatedAt());
+        Assertions.assertEquals(Set.of(movies, series), Set.copyOf(persistedGenre.getCategories()));
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsUpdateWithOtherCategories_shouldOnlyWriteTheDifference() {
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+        final var documentaries = CategoryID.unique();
+
+        final var aGenre = gateway.create(Genre.newGenre("Action", true)
+                .addCategory(movies)
+                .addCategory(series));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            gateway.update(Genre.with(aGenre).update("Action & Adventure", true, List.of(series, documentaries)));
+
+            Assertions.assertEquals(1, statistics.getEntityInsertCount());
+            Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var actualGenre = gateway.findById(aGenre.getId()).get();
+
+        Assertions.assertEquals("Action & Adventure", actualGenre.getName());
+        Assertions.assertEquals(Set.of(series, documentaries), Set.copyOf(actualGenre.getCategories()));
+        Assertions.assertEquals(2, genreCategoryRepository.count());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsUpdateWithSameCategories_shouldNotWriteAssociations() {
+        final var movies = CategoryID.unique();
+
+        final var aGenre = gateway.create(Genre.newGenre("Action", true).addCategory(movies));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        try {
+            gateway.update(Genre.with(aGenre).update("Adventure", false, List.of(movies)));
+
+            Assertions.assertEquals(0, statistics.getEntityInsertCount());
+            Assertions.assertEquals(0, statistics.getEntityDeleteCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var actualGenre = gateway.findById(aGenre.getId()).get();
+
+        Assertions.assertEquals("Adventure", actualGenre.getName());
+        Assertions.assertFalse(actualGenre.isActive());
+        Assertions.assertNotNull(actualGenre.getDeletedAt());
+        Assertions.assertEquals(List.of(movies), actualGenre.getCategories());
+    }
+
+    @Test
+    public void givenAPersistedGenre_whenCallsDeleteById_shouldDeleteItsAssociations() {
+        final var aGenre = gateway.create(Genre.newGenre("Action", true)
+                .addCategory(CategoryID.unique())
+                .addCategory(CategoryID.unique()));
+        final var anotherGenre = gateway.create(Genre.newGenre("Drama", true).addCategory(CategoryID.unique()));
+
+        gateway.deleteById(aGenre.getId());
+        gateway.deleteById(GenreID.from("123"));
+
+        Assertions.assertTrue(gateway.findById(aGenre.getId()).isEmpty());
+        Assertions.assertEquals(1, genreRepository.count());
+        Assertions.assertEquals(
+                List.of(UUID.fromString(anotherGenre.getCategories().get(0).getValue())),
+                genreCategoryRepository.findCategoryIdsByGenreId(UUID.fromString(anotherGenre.getId().getValue()))
+        );
+    }
+
+    @Test
+    public void givenPrePersistedGenres_whenCallsFindAll_shouldReturnPaginatedWithCategories() {
+        final var movies = CategoryID.unique();
+
+        gateway.create(Genre.newGenre("Drama", true).addCategory(movies));
+        gateway.create(Genre.newGenre("Action", true));
+        gateway.create(Genre.newGenre("Comedy", true));
+
+        final var actualPage = gateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+
+        Assertions.assertEquals(3, actualPage.total());
+        Assertions.assertEquals(List.of("Action", "Comedy"), actualPage.items().stream().map(Genre::getName).toList());
+
+        final var actualSearch = gateway.findAll(new SearchQuery(0, 10, "dra", "name", "asc"));
+
+        Assertions.assertEquals(1, actualSearch.total());
+        Assertions.assertEquals(Set.of(movies), new HashSet<>(actualSearch.items().get(0).getCategories()));
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsFindAll_shouldIssueTheSameStatementsRegardlessOfPageSize() {
+        for (int i = 0; i < 12; i++) {
+            gateway.create(Genre.newGenre("Genre " + i, true)
+                    .addCategory(CategoryID.unique())
+                    .addCategory(CategoryID.unique()));
+        }
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.setStatisticsEnabled(true);
+
+        try {
+            for (final var perPage : List.of(2, 5, 10)) {
+                statistics.clear();
+
+                final var actualPage = gateway.findAll(new SearchQuery(0, perPage, "", "name", "asc"));
+
+                Assertions.assertEquals(perPage, actualPage.items().size());
+                actualPage.items().forEach(aGenre -> Assertions.assertEquals(2, aGenre.getCategories().size()));
+
+                // page, count and a single IN (...) lookup for the categories of the whole page
+                Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+            }
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+    }
+
+    @Test
+    public void givenGenresSharingACategory_whenCallsRemoveCategory_shouldOnlyDetachItFromTheGivenGenres() {
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+
+        final var action = gateway.create(Genre.newGenre("Action", true).addCategory(movies).addCategory(series));
+        final var drama = gateway.create(Genre.newGenre("Drama", true).addCategory(movies));
+        final var comedy = gateway.create(Genre.newGenre("Comedy", true).addCategory(series));
+
+        Assertions.assertEquals(Set.of(action.getId(), drama.getId()), Set.copyOf(gateway.findIdsByCategory(movies)));
+        Assertions.assertTrue(gateway.findIdsByCategory(CategoryID.from("123")).isEmpty());
+
+        gateway.removeCategory(movies, List.of(action.getId(), drama.getId()));
+
+        Assertions.assertTrue(gateway.findIdsByCategory(movies).isEmpty());
+
+        final var actualAction = gateway.findById(action.getId()).get();
+
+        Assertions.assertEquals(List.of(series), actualAction.getCategories());
+        Assertions.assertTrue(action.getUpdatedAt().isBefore(actualAction.getUpdatedAt()));
+        Assertions.assertTrue(gateway.findById(drama.getId()).get().getCategories().isEmpty());
+        Assertions.assertEquals(comedy.getUpdatedAt(), gateway.findById(comedy.getId()).get().getUpdatedAt());
+    }
+
+    @Test
+    public void givenGenresSharingCategories_whenCallsRemoveCategories_shouldDetachAllOfThemAtOnce() {
+        final var movies = CategoryID.unique();
+        final var series = CategoryID.unique();
+        final var shorts = CategoryID.unique();
+
+        final var action = gateway.create(Genre.newGenre("Action", true).addCategory(movies).addCategory(shorts));
+        final var drama = gateway.create(Genre.newGenre("Drama", true).addCategory(series).addCategory(movies));
+        final var comedy = gateway.create(Genre.newGenre("Comedy", true).addCategory(shorts));
+
+        final var genreIds = gateway.findIdsByCategories(List.of(movies, series, CategoryID.from("123")));
+
+        Assertions.assertEquals(Set.of(action.getId(), drama.getId()), Set.copyOf(genreIds));
+        Assertions.assertEquals(2, genreIds.size());
+        Assertions.assertTrue(gateway.findIdsByCategories(List.of()).isEmpty());
+
+        gateway.removeCategories(List.of(movies, series), genreIds);
+
+        Assertions.assertTrue(gateway.findIdsByCategories(List.of(movies, series)).isEmpty());
+
+        final var actualAction = gateway.findById(action.getId()).get();
+
+        Assertions.assertEquals(List.of(shorts), actualAction.getCategories());
+        Assertions.assertTrue(action.getUpdatedAt().isBefore(actualAction.getUpdatedAt()));
+        Assertions.assertTrue(gateway.findById(drama.getId()).get().getCategories().isEmpty());
+        Assertions.assertEquals(comedy.getUpdatedAt(), gateway.findById(comedy.getId()).get().getUpdatedAt());
+    }
+
+    @Test
+    public void givenCategoriesAddedOutOfOrder_whenCallsFindByIdAndFindAll_shouldReturnThemInCategoryIdOrder() {
+        final var someCategories = List.of(CategoryID.unique(), CategoryID.unique(), CategoryID.unique());
+        final var expectedCategories = someCategories.stream()
+                .sorted(Comparator.comparing(CategoryID::getValue))
+                .toList();
+
+        final var aGenre = gateway.create(Genre.newGenre("Action", true)
+                .addCategory(someCategories.get(2))
+                .addCategory(someCategories.get(0))
+                .addCategory(someCategories.get(1)));
+
+        gateway.create(Genre.newGenre("Drama", true).addCategory(someCategories.get(1)));
+
+        Assertions.assertEquals(expectedCategories, gateway.findById(aGenre.getId()).get().getCategories());
+
+        final var actualGenre = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc")).items().get(0);
+
+        Assertions.assertEquals(aGenre.getId(), actualGenre.getId());
+        Assertions.assertEquals(expectedCategories, actualGenre.getCategories());
+    }
+}